@@ -0,0 +1,49 @@
+package io.github.projectunified.craftitem.benchmark.spigot;
+
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.enchantments.EnchantmentTarget;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * An enchantment registered by {@link FakeServer} in place of the server's enchantments.
+ */
+final class FakeEnchantment extends Enchantment {
+    private final String name;
+
+    FakeEnchantment(int id, String name) {
+        super(id);
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxLevel() {
+        return 5;
+    }
+
+    public int getStartLevel() {
+        return 1;
+    }
+
+    public EnchantmentTarget getItemTarget() {
+        return EnchantmentTarget.ALL;
+    }
+
+    public boolean isTreasure() {
+        return false;
+    }
+
+    public boolean isCursed() {
+        return false;
+    }
+
+    public boolean conflictsWith(Enchantment other) {
+        return false;
+    }
+
+    public boolean canEnchantItem(ItemStack item) {
+        return true;
+    }
+}
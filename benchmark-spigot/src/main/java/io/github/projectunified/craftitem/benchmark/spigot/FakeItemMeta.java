@@ -0,0 +1,265 @@
+package io.github.projectunified.craftitem.benchmark.spigot;
+
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.EnchantmentStorageMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.PotionMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.potion.PotionEffect;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * A property-bag {@link ItemMeta} backed by a {@link Proxy}, standing in for the server's item metadata.
+ *
+ * <p>Setters store their argument under the property name, getters and {@code has} methods read it back,
+ * and the enchantment, item flag and potion effect methods keep their own collections.
+ * Like the server, the meta interface depends on the material: skulls get a {@link SkullMeta},
+ * potions a {@link PotionMeta} and enchanted books an {@link EnchantmentStorageMeta}.
+ */
+final class FakeItemMeta implements InvocationHandler {
+    private final Class<? extends ItemMeta> metaClass;
+    private final Map<String, Object> properties;
+    private final Map<Enchantment, Integer> enchants;
+    private final Map<Enchantment, Integer> storedEnchants;
+    private final Set<ItemFlag> itemFlags;
+    private final List<PotionEffect> customEffects;
+
+    private FakeItemMeta(Class<? extends ItemMeta> metaClass, FakeItemMeta source) {
+        this.metaClass = metaClass;
+        if (source == null) {
+            this.properties = new LinkedHashMap<>();
+            this.enchants = new LinkedHashMap<>();
+            this.storedEnchants = new LinkedHashMap<>();
+            this.itemFlags = EnumSet.noneOf(ItemFlag.class);
+            this.customEffects = new ArrayList<>();
+        } else {
+            this.properties = new LinkedHashMap<>(source.properties);
+            this.enchants = new LinkedHashMap<>(source.enchants);
+            this.storedEnchants = new LinkedHashMap<>(source.storedEnchants);
+            this.itemFlags = EnumSet.copyOf(source.itemFlags);
+            this.customEffects = new ArrayList<>(source.customEffects);
+        }
+    }
+
+    /**
+     * Creates an empty meta for the material.
+     *
+     * @param material the material
+     * @return the meta, or null for air
+     */
+    static ItemMeta create(Material material) {
+        if (material == Material.AIR) {
+            return null;
+        }
+        return newProxy(new FakeItemMeta(getMetaClass(material), null));
+    }
+
+    /**
+     * Converts the meta to the meta interface of the material, keeping its properties.
+     *
+     * @param meta     the meta
+     * @param material the material
+     * @return the converted meta, or the same meta if it already fits the material
+     */
+    static ItemMeta asMetaFor(ItemMeta meta, Material material) {
+        FakeItemMeta handler = getHandler(meta);
+        if (handler == null) {
+            return meta;
+        }
+        Class<? extends ItemMeta> metaClass = getMetaClass(material);
+        if (handler.metaClass == metaClass) {
+            return meta;
+        }
+        return newProxy(new FakeItemMeta(metaClass, handler));
+    }
+
+    /**
+     * Checks if two metas hold the same data, treating null as an empty meta.
+     *
+     * @param first  the first meta
+     * @param second the second meta
+     * @return true if they hold the same data
+     */
+    static boolean equals(ItemMeta first, ItemMeta second) {
+        FakeItemMeta firstHandler = getHandler(first);
+        FakeItemMeta secondHandler = getHandler(second);
+        if (firstHandler == null || secondHandler == null) {
+            return (firstHandler == null || firstHandler.isEmpty()) && (secondHandler == null || secondHandler.isEmpty());
+        }
+        return firstHandler.isSimilar(secondHandler);
+    }
+
+    private static Class<? extends ItemMeta> getMetaClass(Material material) {
+        String name = material.name();
+        if (name.equals("SKULL_ITEM") || name.equals("PLAYER_HEAD")) {
+            return SkullMeta.class;
+        }
+        if (name.endsWith("POTION")) {
+            return PotionMeta.class;
+        }
+        if (name.equals("ENCHANTED_BOOK")) {
+            return EnchantmentStorageMeta.class;
+        }
+        return ItemMeta.class;
+    }
+
+    private static ItemMeta newProxy(FakeItemMeta handler) {
+        return (ItemMeta) Proxy.newProxyInstance(FakeItemMeta.class.getClassLoader(), new Class<?>[]{handler.metaClass}, handler);
+    }
+
+    private static FakeItemMeta getHandler(Object meta) {
+        if (meta == null || !Proxy.isProxyClass(meta.getClass())) {
+            return null;
+        }
+        InvocationHandler handler = Proxy.getInvocationHandler(meta);
+        return handler instanceof FakeItemMeta ? (FakeItemMeta) handler : null;
+    }
+
+    private boolean isEmpty() {
+        return properties.isEmpty() && enchants.isEmpty() && storedEnchants.isEmpty() && itemFlags.isEmpty() && customEffects.isEmpty();
+    }
+
+    private boolean isSimilar(FakeItemMeta other) {
+        return properties.equals(other.properties)
+                && enchants.equals(other.enchants)
+                && storedEnchants.equals(other.storedEnchants)
+                && itemFlags.equals(other.itemFlags)
+                && customEffects.equals(other.customEffects);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        int argCount = args == null ? 0 : args.length;
+        switch (name) {
+            case "clone":
+                return newProxy(new FakeItemMeta(metaClass, this));
+            case "equals":
+                FakeItemMeta other = getHandler(args[0]);
+                return other != null && isSimilar(other);
+            case "hashCode":
+                return Objects.hash(properties, enchants, storedEnchants, itemFlags, customEffects);
+            case "toString":
+                return "FakeItemMeta" + properties;
+            case "serialize":
+                return new LinkedHashMap<>(properties);
+
+            case "addEnchant":
+                return enchants.put((Enchantment) args[0], (Integer) args[1]) == null;
+            case "removeEnchant":
+                return enchants.remove((Enchantment) args[0]) != null;
+            case "hasEnchant":
+                return enchants.containsKey((Enchantment) args[0]);
+            case "getEnchantLevel":
+                return enchants.getOrDefault((Enchantment) args[0], 0);
+            case "getEnchants":
+                return Collections.unmodifiableMap(new LinkedHashMap<>(enchants));
+            case "hasEnchants":
+                return !enchants.isEmpty();
+            case "addStoredEnchant":
+                return storedEnchants.put((Enchantment) args[0], (Integer) args[1]) == null;
+            case "removeStoredEnchant":
+                return storedEnchants.remove((Enchantment) args[0]) != null;
+            case "hasStoredEnchant":
+                return storedEnchants.containsKey((Enchantment) args[0]);
+            case "getStoredEnchantLevel":
+                return storedEnchants.getOrDefault((Enchantment) args[0], 0);
+            case "getStoredEnchants":
+                return Collections.unmodifiableMap(new LinkedHashMap<>(storedEnchants));
+            case "hasStoredEnchants":
+                return !storedEnchants.isEmpty();
+
+            case "addItemFlags":
+                itemFlags.addAll(Arrays.asList((ItemFlag[]) args[0]));
+                return null;
+            case "removeItemFlags":
+                itemFlags.removeAll(Arrays.asList((ItemFlag[]) args[0]));
+                return null;
+            case "getItemFlags":
+                return Collections.unmodifiableSet(EnumSet.copyOf(itemFlags));
+            case "hasItemFlag":
+                return itemFlags.contains((ItemFlag) args[0]);
+
+            case "addCustomEffect":
+                PotionEffect effect = (PotionEffect) args[0];
+                boolean overwrite = (Boolean) args[1];
+                for (int i = 0; i < customEffects.size(); i++) {
+                    if (customEffects.get(i).getType().equals(effect.getType())) {
+                        if (!overwrite) {
+                            return false;
+                        }
+                        customEffects.set(i, effect);
+                        return true;
+                    }
+                }
+                customEffects.add(effect);
+                return true;
+            case "getCustomEffects":
+                return Collections.unmodifiableList(new ArrayList<>(customEffects));
+            case "hasCustomEffects":
+                return !customEffects.isEmpty();
+            case "clearCustomEffects":
+                boolean changed = !customEffects.isEmpty();
+                customEffects.clear();
+                return changed;
+
+            case "setOwningPlayer":
+                OfflinePlayer player = (OfflinePlayer) args[0];
+                properties.put("OwningPlayer", player);
+                properties.put("Owner", player.getName());
+                return true;
+            default:
+                break;
+        }
+
+        if (name.startsWith("set") && argCount == 1) {
+            String property = name.substring(3);
+            if (args[0] == null) {
+                properties.remove(property);
+            } else {
+                properties.put(property, args[0] instanceof List ? new ArrayList<>((List<?>) args[0]) : args[0]);
+            }
+            return method.getReturnType() == boolean.class ? Boolean.TRUE : null;
+        }
+        if (name.startsWith("has") && argCount == 0) {
+            return properties.containsKey(name.substring(3));
+        }
+        if (name.startsWith("get") && argCount == 0) {
+            Object value = properties.get(name.substring(3));
+            if (value instanceof List) {
+                return new ArrayList<>((List<?>) value);
+            }
+            return value != null ? value : getDefaultValue(method.getReturnType());
+        }
+        if (name.startsWith("is") && argCount == 0) {
+            Object value = properties.get(name.substring(2));
+            return value != null ? value : getDefaultValue(method.getReturnType());
+        }
+        return getDefaultValue(method.getReturnType());
+    }
+
+    /**
+     * Gets the value returned by unsupported methods
+     *
+     * @param type the return type
+     * @return zero, false or null
+     */
+    static Object getDefaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.projectunified.craftitem.benchmark.spigot;
+
+import org.bukkit.Color;
+import org.bukkit.potion.PotionEffectType;
+
+/**
+ * A potion effect type registered by {@link FakeServer} in place of the server's potion effect types.
+ */
+final class FakePotionEffectType extends PotionEffectType {
+    private final String name;
+
+    FakePotionEffectType(int id, String name) {
+        super(id);
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getDurationModifier() {
+        return 1.0;
+    }
+
+    public boolean isInstant() {
+        return false;
+    }
+
+    public Color getColor() {
+        return Color.WHITE;
+    }
+}
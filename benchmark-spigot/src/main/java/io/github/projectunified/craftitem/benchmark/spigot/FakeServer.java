@@ -0,0 +1,117 @@
+package io.github.projectunified.craftitem.benchmark.spigot;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.potion.PotionEffectType;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * A minimal in-process stand-in for the Bukkit server, so that the Spigot modifiers can be benchmarked without a server.
+ *
+ * <p>It provides an {@link ItemFactory} creating {@link FakeItemMeta}s, offline players for names and UUIDs,
+ * and registers the enchantments and potion effect types used by the benchmarks.
+ * Every other server method returns zero, false or null.
+ */
+public final class FakeServer {
+    private static final Logger LOGGER = Logger.getLogger("FakeServer");
+    private static boolean installed;
+
+    private FakeServer() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Installs the fake server, if it is not installed yet.
+     * This must be called before the enchantment and potion modifiers are loaded.
+     */
+    public static synchronized void install() {
+        if (installed) return;
+        installed = true;
+
+        ItemFactory itemFactory = (ItemFactory) Proxy.newProxyInstance(FakeServer.class.getClassLoader(), new Class<?>[]{ItemFactory.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getItemMeta":
+                    return FakeItemMeta.create((Material) args[0]);
+                case "isApplicable":
+                    return args[0] != null;
+                case "equals":
+                    if (args.length == 1) return proxy == args[0];
+                    return FakeItemMeta.equals((ItemMeta) args[0], (ItemMeta) args[1]);
+                case "asMetaFor":
+                    Material material = args[1] instanceof ItemStack ? ((ItemStack) args[1]).getType() : (Material) args[1];
+                    return FakeItemMeta.asMetaFor((ItemMeta) args[0], material);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "FakeItemFactory";
+                default:
+                    return FakeItemMeta.getDefaultValue(method.getReturnType());
+            }
+        });
+
+        Server server = (Server) Proxy.newProxyInstance(FakeServer.class.getClassLoader(), new Class<?>[]{Server.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getItemFactory":
+                    return itemFactory;
+                case "getLogger":
+                    return LOGGER;
+                case "getName":
+                case "getVersion":
+                case "getBukkitVersion":
+                case "toString":
+                    return "FakeServer";
+                case "getOfflinePlayer":
+                    return args[0] instanceof UUID ? createOfflinePlayer(null, (UUID) args[0]) : createOfflinePlayer((String) args[0], null);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return FakeItemMeta.getDefaultValue(method.getReturnType());
+            }
+        });
+        Bukkit.setServer(server);
+
+        String[] enchantments = {"PROTECTION_ENVIRONMENTAL", "DAMAGE_ALL", "KNOCKBACK", "FIRE_ASPECT", "DIG_SPEED", "DURABILITY", "LOOT_BONUS_BLOCKS", "MENDING"};
+        int[] enchantmentIds = {0, 16, 19, 20, 32, 34, 35, 70};
+        for (int i = 0; i < enchantments.length; i++) {
+            Enchantment.registerEnchantment(new FakeEnchantment(enchantmentIds[i], enchantments[i]));
+        }
+
+        String[] potionEffectTypes = {"SPEED", "SLOW", "FAST_DIGGING", "INCREASE_DAMAGE", "HEAL", "JUMP", "REGENERATION", "NIGHT_VISION"};
+        int[] potionEffectTypeIds = {1, 2, 3, 5, 6, 8, 10, 16};
+        for (int i = 0; i < potionEffectTypes.length; i++) {
+            PotionEffectType.registerPotionEffectType(new FakePotionEffectType(potionEffectTypeIds[i], potionEffectTypes[i]));
+        }
+    }
+
+    private static OfflinePlayer createOfflinePlayer(String name, UUID uuid) {
+        UUID uniqueId = uuid != null ? uuid : UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes(StandardCharsets.UTF_8));
+        return (OfflinePlayer) Proxy.newProxyInstance(FakeServer.class.getClassLoader(), new Class<?>[]{OfflinePlayer.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return name;
+                case "getUniqueId":
+                    return uniqueId;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return uniqueId.hashCode();
+                case "toString":
+                    return "FakeOfflinePlayer{" + name + "," + uniqueId + "}";
+                default:
+                    return FakeItemMeta.getDefaultValue(method.getReturnType());
+            }
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.projectunified.craftitem.benchmark.spigot;
+
+import io.github.projectunified.craftitem.spigot.core.SpigotItem;
+import io.github.projectunified.craftitem.spigot.skull.SkullModifier;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Benchmarks {@link SkullModifier} with each kind of skull value against the {@link FakeServer}.
+ *
+ * <p>The fake skull meta has no profile field, so the texture values measure the value detection and the
+ * profile creation of the skull handler, but not the final reflective write.
+ * Run with {@code -prof gc} to also measure the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkullModifierBenchmark {
+    private final UnaryOperator<String> translator = s -> s.replace("{player}", "Steve");
+
+    @Param({
+            "{player}",
+            "8667ba71-b85a-4004-af54-457a9734eed7",
+            "https://textures.minecraft.net/texture/b3fbd454b599df593f57101bfca34e67d292a8861213d2202bb575da7fd091ac",
+            "b3fbd454b599df593f57101bfca34e67d292a8861213d2202bb575da7fd091ac",
+            "eyJ0ZXh0dXJlcyI6eyJTS0lOIjp7InVybCI6Imh0dHA6Ly90ZXh0dXJlcy5taW5lY3JhZnQubmV0L3RleHR1cmUvYjNmYmQ0NTRiNTk5ZGY1OTNmNTcxMDFiZmNhMzRlNjdkMjkyYTg4NjEyMTNkMjIwMmJiNTc1ZGE3ZmQwOTFhYyJ9fX0="
+    })
+    public String value;
+
+    private SkullModifier skullModifier;
+
+    @Setup
+    public void setup() {
+        FakeServer.install();
+        skullModifier = new SkullModifier(value);
+    }
+
+    @Benchmark
+    public ItemStack skull() {
+        SpigotItem item = new SpigotItem(Material.SKULL_ITEM);
+        skullModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+}
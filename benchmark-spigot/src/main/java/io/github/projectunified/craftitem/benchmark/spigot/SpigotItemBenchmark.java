@@ -0,0 +1,141 @@
+package io.github.projectunified.craftitem.benchmark.spigot;
+
+import io.github.projectunified.craftitem.modifier.AmountModifier;
+import io.github.projectunified.craftitem.modifier.NameModifier;
+import io.github.projectunified.craftitem.spigot.core.SpigotItem;
+import io.github.projectunified.craftitem.spigot.core.SpigotItemRecipe;
+import io.github.projectunified.craftitem.spigot.modifier.*;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Benchmarks building a {@link SpigotItem} with each Spigot modifier, and with all of them in a {@link SpigotItemRecipe},
+ * against the {@link FakeServer}.
+ *
+ * <p>Run with {@code -prof gc} to also measure the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpigotItemBenchmark {
+    private final UnaryOperator<String> translator = s -> s.replace("{player}", "Steve").replace("{level}", "5");
+
+    private NameModifier nameModifier;
+    private AmountModifier amountModifier;
+    private LoreModifier loreModifier;
+    private EnchantmentModifier enchantmentModifier;
+    private ItemFlagModifier itemFlagModifier;
+    private MaterialModifier materialModifier;
+    private PotionEffectModifier potionEffectModifier;
+    private DurabilityModifier durabilityModifier;
+    private SpigotItemRecipe recipe;
+
+    @Setup
+    public void setup() {
+        FakeServer.install();
+
+        nameModifier = new NameModifier("&bSword of {player}");
+        amountModifier = new AmountModifier("{level}");
+
+        List<String> lore = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            lore.add("&7Line " + i + " forged for {player}");
+        }
+        loreModifier = new LoreModifier(lore);
+
+        enchantmentModifier = new EnchantmentModifier(Arrays.asList("DAMAGE_ALL {level}", "DURABILITY, 3", "MENDING"));
+        itemFlagModifier = new ItemFlagModifier(Arrays.asList("HIDE_ENCHANTS", "HIDE_ATTRIBUTES"));
+        materialModifier = new MaterialModifier("DIAMOND_SWORD");
+        potionEffectModifier = new PotionEffectModifier(Arrays.asList("SPEED 30 1", "REGENERATION,10,{level}"));
+        durabilityModifier = new DurabilityModifier("{level}");
+
+        recipe = new SpigotItemRecipe(
+                materialModifier,
+                nameModifier,
+                amountModifier,
+                loreModifier,
+                enchantmentModifier,
+                itemFlagModifier,
+                durabilityModifier
+        );
+    }
+
+    @Benchmark
+    public ItemStack name() {
+        SpigotItem item = new SpigotItem(Material.DIAMOND_SWORD);
+        nameModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack lore() {
+        SpigotItem item = new SpigotItem(Material.DIAMOND_SWORD);
+        loreModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack enchantments() {
+        SpigotItem item = new SpigotItem(Material.DIAMOND_SWORD);
+        enchantmentModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack itemFlags() {
+        SpigotItem item = new SpigotItem(Material.DIAMOND_SWORD);
+        itemFlagModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack material() {
+        SpigotItem item = new SpigotItem(Material.STONE);
+        materialModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack potionEffects() {
+        SpigotItem item = new SpigotItem(Material.POTION);
+        potionEffectModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack durability() {
+        SpigotItem item = new SpigotItem(Material.DIAMOND_SWORD);
+        durabilityModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack modifiersInSequence() {
+        SpigotItem item = new SpigotItem(Material.STONE);
+        materialModifier.modify(item, translator);
+        nameModifier.modify(item, translator);
+        amountModifier.modify(item, translator);
+        loreModifier.modify(item, translator);
+        enchantmentModifier.modify(item, translator);
+        itemFlagModifier.modify(item, translator);
+        durabilityModifier.modify(item, translator);
+        return item.getItemStack();
+    }
+
+    @Benchmark
+    public ItemStack recipe() {
+        SpigotItem item = new SpigotItem(Material.STONE);
+        recipe.modify(item, translator);
+        return item.getItemStack();
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.projectunified.craftitem.benchmark.nbt;
+
+import io.github.projectunified.craftitem.nbt.NBTMapNormalizer;
+import io.github.projectunified.craftitem.nbt.NormalizationPlan;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Benchmarks {@link NBTMapNormalizer#normalize(Object, UnaryOperator)} on forced-value maps, suffixed number strings and deep lists,
+ * and the same values normalized through a compiled {@link NormalizationPlan}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NBTMapNormalizerBenchmark {
+    private final UnaryOperator<String> translator = s -> s.replace("{level}", "5");
+
+    private Map<String, Object> forcedValues;
+    private Map<String, Object> suffixNumbers;
+    private List<Object> deepList;
+    private NormalizationPlan forcedValuesPlan;
+    private NormalizationPlan suffixNumbersPlan;
+    private NormalizationPlan deepListPlan;
+
+    private static Map<String, Object> forced(String type, Object value) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("$type", type);
+        map.put("$value", value);
+        return map;
+    }
+
+    @Setup
+    public void setup() {
+        forcedValues = new LinkedHashMap<>();
+        forcedValues.put("byte", forced("byte", "1"));
+        forcedValues.put("boolean", forced("boolean", "true"));
+        forcedValues.put("short", forced("short", "{level}"));
+        forcedValues.put("int", forced("int", "{level}"));
+        forcedValues.put("long", forced("long", 123456789L));
+        forcedValues.put("float", forced("float", "1.5"));
+        forcedValues.put("double", forced("double", "{level}.25"));
+        forcedValues.put("string", forced("string", "Level {level}"));
+        forcedValues.put("raw", forced("raw", "{text:\"Level {level}\"}"));
+        List<Object> ints = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            ints.add(i % 2 == 0 ? i : "{level}");
+        }
+        forcedValues.put("int_array", forced("int_array", ints));
+
+        suffixNumbers = new LinkedHashMap<>();
+        String[] suffixes = {"b", "s", "", "L", "f", "d"};
+        for (int i = 0; i < 24; i++) {
+            suffixNumbers.put("number" + i, i + suffixes[i % suffixes.length]);
+            suffixNumbers.put("text" + i, "Line " + i + " of the lore");
+        }
+
+        deepList = new ArrayList<>();
+        List<Object> current = deepList;
+        for (int depth = 0; depth < 16; depth++) {
+            current.add("1b");
+            current.add(forced("int", "{level}"));
+            current.add("plain text");
+            List<Object> child = new ArrayList<>();
+            current.add(child);
+            current = child;
+        }
+
+        forcedValuesPlan = NBTMapNormalizer.compile(forcedValues);
+        suffixNumbersPlan = NBTMapNormalizer.compile(suffixNumbers);
+        deepListPlan = NBTMapNormalizer.compile(deepList);
+    }
+
+    @Benchmark
+    public Object forcedValues() {
+        return NBTMapNormalizer.normalize(forcedValues, translator);
+    }
+
+    @Benchmark
+    public Object suffixNumbers() {
+        return NBTMapNormalizer.normalize(suffixNumbers, translator);
+    }
+
+    @Benchmark
+    public Object deepList() {
+        return NBTMapNormalizer.normalize(deepList, translator);
+    }
+
+    @Benchmark
+    public Object forcedValuesPlan() {
+        return forcedValuesPlan.normalize(translator);
+    }
+
+    @Benchmark
+    public Object suffixNumbersPlan() {
+        return suffixNumbersPlan.normalize(translator);
+    }
+
+    @Benchmark
+    public Object deepListPlan() {
+        return deepListPlan.normalize(translator);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.projectunified.craftitem.benchmark.nbt;
+
+import io.github.projectunified.craftitem.nbt.SNBTConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link SNBTConverter#convert(Object, boolean)} on flat, nested, array-heavy and data component values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SNBTConverterBenchmark {
+    private Map<String, Object> flat;
+    private Map<String, Object> nested;
+    private Map<String, Object> largeArrays;
+    private Map<String, Object> dataComponents;
+
+    @Setup
+    public void setup() {
+        flat = new LinkedHashMap<>();
+        flat.put("byte", (byte) 1);
+        flat.put("short", (short) 2);
+        flat.put("int", 3);
+        flat.put("long", 4L);
+        flat.put("float", 5.5f);
+        flat.put("double", 6.5);
+        flat.put("boolean", true);
+        flat.put("name", "Sword of Testing");
+        flat.put("id", "minecraft:diamond_sword");
+        flat.put("number", "42");
+        flat.put("decimal", "1.25");
+
+        nested = new LinkedHashMap<>();
+        Map<String, Object> current = nested;
+        for (int depth = 0; depth < 8; depth++) {
+            List<Object> list = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Map<String, Object> element = new LinkedHashMap<>();
+                element.put("id", "minecraft:sharpness");
+                element.put("lvl", (short) i);
+                list.add(element);
+            }
+            current.put("list", list);
+            Map<String, Object> child = new LinkedHashMap<>();
+            current.put("child", child);
+            current = child;
+        }
+
+        largeArrays = new LinkedHashMap<>();
+        byte[] bytes = new byte[8192];
+        int[] ints = new int[4096];
+        long[] longs = new long[4096];
+        for (int i = 0; i < ints.length; i++) {
+            bytes[i] = (byte) i;
+            ints[i] = i * 31;
+            longs[i] = i * 1_000_003L;
+        }
+        largeArrays.put("bytes", bytes);
+        largeArrays.put("ints", ints);
+        largeArrays.put("longs", longs);
+
+        dataComponents = new LinkedHashMap<>();
+        dataComponents.put("minecraft:custom_name", "{\"text\":\"Sword of Testing\",\"italic\":false}");
+        dataComponents.put("minecraft:max_stack_size", 1);
+        dataComponents.put("minecraft:damage", 5);
+        Map<String, Object> enchantments = new LinkedHashMap<>();
+        enchantments.put("minecraft:sharpness", 5);
+        enchantments.put("minecraft:unbreaking", 3);
+        dataComponents.put("minecraft:enchantments", enchantments);
+        Map<String, Object> customData = new LinkedHashMap<>();
+        customData.put("owner", "8667ba71-b85a-4004-af54-457a9734eed7");
+        customData.put("tier", "3b");
+        dataComponents.put("minecraft:custom_data", customData);
+    }
+
+    @Benchmark
+    public String flat() {
+        return SNBTConverter.convert(flat);
+    }
+
+    @Benchmark
+    public String nested() {
+        return SNBTConverter.convert(nested);
+    }
+
+    @Benchmark
+    public String largeArrays() {
+        return SNBTConverter.convert(largeArrays);
+    }
+
+    @Benchmark
+    public String dataComponents() {
+        return SNBTConverter.convert(dataComponents, true);
+    }
+
+    @Benchmark
+    public String dataComponentsWithMaterial() {
+        StringBuilder builder = new StringBuilder("minecraft:diamond_sword");
+        SNBTConverter.convert(dataComponents, true, builder);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.projectunified.craftitem.benchmark.nbt;
+
+import io.github.projectunified.craftitem.nbt.SNBTConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the string and key escaping paths of {@link SNBTConverter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SNBTEscapeBenchmark {
+    private Map<String, Object> unquoted;
+    private Map<String, Object> quoted;
+    private Map<String, Object> textComponent;
+    private Map<String, Object> quotedKeys;
+
+    @Setup
+    public void setup() {
+        unquoted = new LinkedHashMap<>();
+        quoted = new LinkedHashMap<>();
+        quotedKeys = new LinkedHashMap<>();
+        for (int i = 0; i < 16; i++) {
+            unquoted.put("key" + i, "minecraft_value_" + i);
+            quoted.put("key" + i, "Say \"hello\" to C:\\path\\" + i);
+            quotedKeys.put("minecraft:key " + i, i);
+        }
+
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < 64; i++) {
+            if (i > 0) text.append(',');
+            text.append("{\"text\":\"Line ").append(i).append(" of the \\\"description\\\"\",\"color\":\"gray\",\"italic\":false}");
+        }
+        text.append(']');
+        textComponent = Collections.singletonMap("text", text.toString());
+    }
+
+    @Benchmark
+    public String unquoted() {
+        return SNBTConverter.convert(unquoted);
+    }
+
+    @Benchmark
+    public String quoted() {
+        return SNBTConverter.convert(quoted);
+    }
+
+    @Benchmark
+    public String textComponent() {
+        return SNBTConverter.convert(textComponent);
+    }
+
+    @Benchmark
+    public String quotedKeys() {
+        return SNBTConverter.convert(quotedKeys);
+    }
+}
@@ -0,0 +1,262 @@
+package io.github.projectunified.craftitem.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache, bounded by size and optionally by age.
+ *
+ * <p>When the cache is full, the least recently used entries are evicted.
+ * Entries older than the expiration time, if set, are evicted when they are accessed.
+ * The hits, misses and evictions are counted to monitor the cache.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * BoundedCache<String, Object> cache = new BoundedCache<>(5000);
+ * cache.setExpireAfterWrite(30, TimeUnit.MINUTES);
+ * Object value = cache.get("key", key -> load(key));
+ * long hits = cache.getHitCount();
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class BoundedCache<K, V> {
+    /**
+     * The default maximum number of entries.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private int maxSize;
+    private long expireAfterWriteNanos;
+
+    /**
+     * Creates a new BoundedCache with the {@link #DEFAULT_MAX_SIZE default maximum size} and no expiration.
+     */
+    public BoundedCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new BoundedCache with no expiration.
+     *
+     * @param maxSize the maximum number of entries, or 0 to disable the cache
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public BoundedCache(int maxSize) {
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Gets the cached value of the key, or loads and caches it if it is absent or expired.
+     * The loader is called outside the lock, so concurrent misses of the same key may load it more than once.
+     *
+     * @param key    the key
+     * @param loader the function to load the value
+     * @return the value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the cached value of the key, counting a hit or a miss.
+     *
+     * @param key the key
+     * @return the value, or null if it is absent or expired
+     */
+    public V getIfPresent(K key) {
+        synchronized (map) {
+            Entry<V> entry = map.get(key);
+            if (entry != null && isExpired(entry, System.nanoTime())) {
+                map.remove(key);
+                evictionCount.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+            hitCount.incrementAndGet();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Caches the value of the key, evicting the least recently used entries if needed.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        synchronized (map) {
+            if (maxSize <= 0) return;
+            map.put(key, new Entry<>(value, System.nanoTime()));
+            trim();
+        }
+    }
+
+    /**
+     * Removes the cached value of the key.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        synchronized (map) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached entries, including the expired ones not evicted yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     *
+     * @return the maximum number of entries
+     */
+    public int getMaxSize() {
+        synchronized (map) {
+            return maxSize;
+        }
+    }
+
+    /**
+     * Sets the maximum number of entries, evicting the least recently used entries if needed.
+     *
+     * @param maxSize the maximum number of entries, or 0 to disable the cache
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size must not be negative");
+        }
+        synchronized (map) {
+            this.maxSize = maxSize;
+            trim();
+        }
+    }
+
+    /**
+     * Gets the time after which the cached entries expire.
+     *
+     * @param unit the unit of the returned time
+     * @return the expiration time, or 0 if the entries do not expire
+     */
+    public long getExpireAfterWrite(TimeUnit unit) {
+        synchronized (map) {
+            return unit.convert(expireAfterWriteNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sets the time after which the cached entries expire.
+     *
+     * @param duration the expiration time, or 0 to keep the entries until they are evicted by size
+     * @param unit     the unit of the time
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public void setExpireAfterWrite(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("The expiration time must not be negative");
+        }
+        synchronized (map) {
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a cached value.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that did not find a cached value.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of entries evicted because the cache was full or they expired.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public void resetStats() {
+        hitCount.set(0);
+        missCount.set(0);
+        evictionCount.set(0);
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return expireAfterWriteNanos > 0 && now - entry.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+        while (map.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Internal data class for storing a value with its write time.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long writeTime;
+
+        private Entry(V value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package io.github.projectunified.craftitem.core;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -36,4 +40,44 @@ public interface ItemModifier {
     default void modify(Item item) {
         modify(item, UnaryOperator.identity());
     }
+
+    /**
+     * Gets the raw values that this modifier passes to the translator.
+     * The placeholders that the result depends on can be found by scanning these values.
+     *
+     * @return the raw values, or null if they are unknown
+     */
+    default Collection<String> getTranslatableValues() {
+        return null;
+    }
+
+    /**
+     * Gets the placeholder keys that the result of this modifier depends on.
+     *
+     * @param keyExtractor the function to extract the placeholder keys from a raw value
+     * @return the placeholder keys, or null if they are unknown
+     */
+    default Set<String> getPlaceholderKeys(Function<String, ? extends Collection<String>> keyExtractor) {
+        Collection<String> values = getTranslatableValues();
+        if (values == null) {
+            return null;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String value : values) {
+            keys.addAll(keyExtractor.apply(value));
+        }
+        return keys;
+    }
+
+    /**
+     * Checks if the result of this modifier depends on the translator.
+     * Modifiers that do not depend on it produce the same result for every translator,
+     * so they can be applied once and the result reused.
+     *
+     * @return true if the result depends on the translator
+     */
+    default boolean dependsOnTranslator() {
+        Collection<String> values = getTranslatableValues();
+        return values == null || !values.isEmpty();
+    }
 }
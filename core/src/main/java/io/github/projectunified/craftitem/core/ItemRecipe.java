@@ -0,0 +1,101 @@
+package io.github.projectunified.craftitem.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A composite modifier that applies a sequence of modifiers as a single unit.
+ *
+ * <p>The modifiers are applied in the order they were given. Platform implementations may extend
+ * this class to share expensive state between the modifiers, such as applying all metadata edits
+ * in a single round trip.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * ItemRecipe recipe = new ItemRecipe(
+ *     new NameModifier("Sword of ${owner}"),
+ *     new AmountModifier(1)
+ * );
+ * recipe.modify(item, s -> s.replace("${owner}", "Player123"));
+ * }</pre>
+ */
+public class ItemRecipe implements ItemModifier {
+    private final List<ItemModifier> modifiers;
+
+    /**
+     * Creates a new ItemRecipe with the specified modifiers.
+     *
+     * @param modifiers the modifiers to apply, in order
+     */
+    public ItemRecipe(List<? extends ItemModifier> modifiers) {
+        this.modifiers = Collections.unmodifiableList(new ArrayList<>(modifiers));
+    }
+
+    /**
+     * Creates a new ItemRecipe with the specified modifiers.
+     *
+     * @param modifiers the modifiers to apply, in order
+     */
+    public ItemRecipe(ItemModifier... modifiers) {
+        this(Arrays.asList(modifiers));
+    }
+
+    /**
+     * Gets the modifiers of this recipe.
+     *
+     * @return the unmodifiable list of modifiers, in order
+     */
+    public List<ItemModifier> getModifiers() {
+        return modifiers;
+    }
+
+    /**
+     * Applies all modifiers of this recipe to the given item, in order.
+     *
+     * @param item       the item to modify
+     * @param translator the string translator for variable substitution
+     */
+    @Override
+    public void modify(Item item, UnaryOperator<String> translator) {
+        for (ItemModifier modifier : modifiers) {
+            modifier.modify(item, translator);
+        }
+    }
+
+    /**
+     * Gets the raw values that the modifiers of this recipe pass to the translator.
+     *
+     * @return the raw values, or null if they are unknown for any modifier
+     */
+    @Override
+    public Collection<String> getTranslatableValues() {
+        List<String> values = new ArrayList<>();
+        for (ItemModifier modifier : modifiers) {
+            Collection<String> modifierValues = modifier.getTranslatableValues();
+            if (modifierValues == null) {
+                return null;
+            }
+            values.addAll(modifierValues);
+        }
+        return values;
+    }
+
+    /**
+     * Checks if any modifier of this recipe depends on the translator.
+     *
+     * @return true if the result depends on the translator
+     */
+    @Override
+    public boolean dependsOnTranslator() {
+        for (ItemModifier modifier : modifiers) {
+            if (modifier.dependsOnTranslator()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.projectunified.craftitem.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A string compiled into segments of literal text and variable slots.
+ *
+ * <p>A template with {@code n} variables has {@code n + 1} literals, and is rendered as
+ * {@code literal[0] + variable[0] + literal[1] + ... + variable[n - 1] + literal[n]}.
+ * Templates are immutable and can be rendered concurrently.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * StringTemplate template = TemplateCompiler.delimited("%", "%").compile("Hello %player_name%!");
+ * template.getKeys(); // ["player_name"]
+ * String rendered = template.render(translator);
+ * }</pre>
+ */
+public final class StringTemplate {
+    private final String[] literals;
+    private final String[] keys;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    /**
+     * Creates a new StringTemplate.
+     *
+     * @param literals     the literal segments, one more than the keys
+     * @param keys         the keys of the variable slots
+     * @param placeholders the original text of the variable slots, used when a key cannot be resolved
+     * @throws IllegalArgumentException if the sizes of the lists do not match
+     */
+    public StringTemplate(List<String> literals, List<String> keys, List<String> placeholders) {
+        if (literals.size() != keys.size() + 1) {
+            throw new IllegalArgumentException("There must be exactly one more literal than keys");
+        }
+        if (placeholders.size() != keys.size()) {
+            throw new IllegalArgumentException("There must be exactly one placeholder for each key");
+        }
+        this.literals = literals.toArray(new String[0]);
+        this.keys = keys.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Creates a template without any variable slot.
+     *
+     * @param value the literal value
+     * @return the template
+     */
+    public static StringTemplate constant(String value) {
+        return new StringTemplate(Collections.singletonList(value), Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Gets the keys of the variable slots, in order.
+     *
+     * @return the unmodifiable list of keys
+     */
+    public List<String> getKeys() {
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * Checks if the template has no variable slot.
+     *
+     * @return true if the template always renders the same value
+     */
+    public boolean isConstant() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Renders the template, resolving the variable slots with the translator.
+     * Slots whose key is resolved to null keep their original text.
+     *
+     * @param translator the translator to resolve the keys
+     * @return the rendered string
+     */
+    public String render(TemplateTranslator translator) {
+        if (keys.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(literalLength + 16 * keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(literals[i]);
+            String value = translator.resolve(keys[i]);
+            builder.append(value != null ? value : placeholders[i]);
+        }
+        builder.append(literals[keys.length]);
+        return builder.toString();
+    }
+}
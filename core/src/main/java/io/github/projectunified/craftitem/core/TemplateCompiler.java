@@ -0,0 +1,82 @@
+package io.github.projectunified.craftitem.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles strings into {@link StringTemplate}s.
+ *
+ * <p>A compiler defines the placeholder syntax of a {@link TemplateTranslator}. Compiled templates are
+ * cached by {@link TranslatableString} per compiler instance, so a compiler should be reused rather than
+ * created for each translation.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * TemplateCompiler compiler = TemplateCompiler.delimited("{", "}");
+ * StringTemplate template = compiler.compile("Level: {level}");
+ * }</pre>
+ */
+@FunctionalInterface
+public interface TemplateCompiler {
+    /**
+     * Creates a compiler for placeholders enclosed by a prefix and a suffix, such as {@code %key%} or {@code {key}}.
+     * A prefix without a matching suffix, or with an empty key, is kept as literal text.
+     *
+     * @param prefix the placeholder prefix
+     * @param suffix the placeholder suffix
+     * @return the compiler
+     */
+    static TemplateCompiler delimited(String prefix, String suffix) {
+        if (prefix.isEmpty() || suffix.isEmpty()) {
+            throw new IllegalArgumentException("The prefix and the suffix must not be empty");
+        }
+        return value -> {
+            List<String> literals = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            List<String> placeholders = new ArrayList<>();
+            int literalStart = 0;
+            int searchStart = 0;
+            while (true) {
+                int start = value.indexOf(prefix, searchStart);
+                if (start < 0) break;
+                int keyStart = start + prefix.length();
+                int end = value.indexOf(suffix, keyStart);
+                if (end < 0) break;
+                if (end == keyStart) {
+                    searchStart = keyStart;
+                    continue;
+                }
+                int placeholderEnd = end + suffix.length();
+                literals.add(value.substring(literalStart, start));
+                keys.add(value.substring(keyStart, end));
+                placeholders.add(value.substring(start, placeholderEnd));
+                literalStart = placeholderEnd;
+                searchStart = placeholderEnd;
+            }
+            if (keys.isEmpty()) {
+                return StringTemplate.constant(value);
+            }
+            literals.add(value.substring(literalStart));
+            return new StringTemplate(literals, keys, placeholders);
+        };
+    }
+
+    /**
+     * Compiles the string into a template.
+     *
+     * @param value the string to compile
+     * @return the template
+     */
+    StringTemplate compile(String value);
+
+    /**
+     * Gets the placeholder keys of the string.
+     * Can be used as the key extractor of {@link ItemModifier#getPlaceholderKeys(java.util.function.Function)}.
+     *
+     * @param value the string
+     * @return the placeholder keys, in order
+     */
+    default List<String> getKeys(String value) {
+        return compile(value).getKeys();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.projectunified.craftitem.core;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A translator that resolves placeholder keys instead of rescanning the raw strings.
+ *
+ * <p>Modifiers holding {@link TranslatableString}s compile their strings once with the {@link #getCompiler() compiler}
+ * of the translator and then only resolve the variable slots on each translation.
+ * Used as a plain {@link UnaryOperator}, the string is compiled on every call.
+ *
+ * <p><strong>Example Implementation:</strong>
+ * <pre>{@code
+ * public class PlayerTranslator implements TemplateTranslator {
+ *     private static final TemplateCompiler COMPILER = TemplateCompiler.delimited("{", "}");
+ *     private final Player player;
+ *
+ *     @Override
+ *     public TemplateCompiler getCompiler() {
+ *         return COMPILER;
+ *     }
+ *
+ *     @Override
+ *     public String resolve(String key) {
+ *         return key.equals("player") ? player.getName() : null;
+ *     }
+ * }
+ * }</pre>
+ */
+public interface TemplateTranslator extends UnaryOperator<String> {
+    /**
+     * Gets the compiler defining the placeholder syntax of this translator.
+     * The same instance should be returned on every call so that compiled templates can be reused.
+     *
+     * @return the compiler
+     */
+    TemplateCompiler getCompiler();
+
+    /**
+     * Resolves the value of a placeholder key.
+     *
+     * @param key the placeholder key
+     * @return the value, or null to keep the placeholder as is
+     */
+    String resolve(String key);
+
+    /**
+     * Translates the string by compiling it and resolving its placeholders.
+     *
+     * @param value the string to translate
+     * @return the translated string
+     */
+    @Override
+    default String apply(String value) {
+        return getCompiler().compile(value).render(this);
+    }
+}
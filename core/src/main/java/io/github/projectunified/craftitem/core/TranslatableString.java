@@ -0,0 +1,86 @@
+package io.github.projectunified.craftitem.core;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A raw string that caches its compiled template for {@link TemplateTranslator}s.
+ *
+ * <p>When translated with a {@link TemplateTranslator}, the string is compiled once with the translator's
+ * compiler and only the variable slots are resolved afterwards. Any other translator falls back to
+ * {@link UnaryOperator#apply(Object)} on the raw string.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * TranslatableString name = new TranslatableString("Sword of {player}");
+ * String translated = name.translate(translator);
+ * }</pre>
+ */
+public final class TranslatableString {
+    private final String value;
+    private volatile CompiledTemplate compiled;
+
+    /**
+     * Creates a new TranslatableString.
+     *
+     * @param value the raw string
+     */
+    public TranslatableString(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the raw string.
+     *
+     * @return the raw string
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the template of the raw string for the compiler, compiling it if the cached one is for another compiler.
+     *
+     * @param compiler the compiler
+     * @return the template
+     */
+    public StringTemplate getTemplate(TemplateCompiler compiler) {
+        CompiledTemplate current = compiled;
+        if (current == null || current.compiler != compiler) {
+            current = new CompiledTemplate(compiler, compiler.compile(value));
+            compiled = current;
+        }
+        return current.template;
+    }
+
+    /**
+     * Translates the raw string.
+     *
+     * @param translator the string translator for variable substitution
+     * @return the translated string
+     */
+    public String translate(UnaryOperator<String> translator) {
+        if (translator instanceof TemplateTranslator) {
+            TemplateTranslator templateTranslator = (TemplateTranslator) translator;
+            return getTemplate(templateTranslator.getCompiler()).render(templateTranslator);
+        }
+        return translator.apply(value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * Internal data class for storing a template with the compiler that produced it.
+     */
+    private static final class CompiledTemplate {
+        private final TemplateCompiler compiler;
+        private final StringTemplate template;
+
+        private CompiledTemplate(TemplateCompiler compiler, StringTemplate template) {
+            this.compiler = compiler;
+            this.template = template;
+        }
+    }
+}
@@ -2,7 +2,10 @@ package io.github.projectunified.craftitem.modifier;
 
 import io.github.projectunified.craftitem.core.Item;
 import io.github.projectunified.craftitem.core.ItemModifier;
+import io.github.projectunified.craftitem.core.TranslatableString;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.UnaryOperator;
 
 /**
@@ -25,7 +28,8 @@ import java.util.function.UnaryOperator;
  * }</pre>
  */
 public class AmountModifier implements ItemModifier {
-    private final String amount;
+    private final TranslatableString amount;
+    private final boolean constant;
 
     /**
      * Creates a new AmountModifier with the specified integer amount.
@@ -33,7 +37,8 @@ public class AmountModifier implements ItemModifier {
      * @param amount the stack size
      */
     public AmountModifier(int amount) {
-        this.amount = Integer.toString(amount);
+        this.amount = new TranslatableString(Integer.toString(amount));
+        this.constant = true;
     }
 
     /**
@@ -43,26 +48,28 @@ public class AmountModifier implements ItemModifier {
      * @param amount the stack size as a string
      */
     public AmountModifier(String amount) {
-        this.amount = amount;
+        this.amount = new TranslatableString(amount);
+        this.constant = false;
     }
 
     /**
      * Creates a new AmountModifier with a default amount of 1.
      */
     public AmountModifier() {
-        this.amount = "1";
+        this.amount = new TranslatableString("1");
+        this.constant = true;
     }
 
     /**
      * Applies the translated amount to the item.
-     * Invalid amounts are silently ignored.
+     * Invalid amounts are silently ignored, and integer amounts are applied without translation.
      *
      * @param item       the item to modify
      * @param translator the string translator for variable substitution
      */
     @Override
     public void modify(Item item, UnaryOperator<String> translator) {
-        String amount = translator.apply(this.amount);
+        String amount = constant ? this.amount.getValue() : this.amount.translate(translator);
         int a;
         try {
             a = Integer.parseInt(amount);
@@ -71,4 +78,9 @@ public class AmountModifier implements ItemModifier {
         }
         item.setAmount(a);
     }
+
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return constant ? Collections.emptyList() : Collections.singletonList(amount.getValue());
+    }
 }
@@ -2,7 +2,10 @@ package io.github.projectunified.craftitem.modifier;
 
 import io.github.projectunified.craftitem.core.Item;
 import io.github.projectunified.craftitem.core.ItemModifier;
+import io.github.projectunified.craftitem.core.TranslatableString;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.UnaryOperator;
 
 /**
@@ -19,7 +22,7 @@ import java.util.function.UnaryOperator;
  * }</pre>
  */
 public class NameModifier implements ItemModifier {
-    private final String name;
+    private final TranslatableString name;
     private UnaryOperator<String> transformer;
 
     /**
@@ -28,7 +31,7 @@ public class NameModifier implements ItemModifier {
      * @param name the display name (can contain variables for translation)
      */
     public NameModifier(String name) {
-        this.name = name;
+        this.name = new TranslatableString(name);
     }
 
     /**
@@ -39,13 +42,18 @@ public class NameModifier implements ItemModifier {
      */
     @Override
     public void modify(Item item, UnaryOperator<String> translator) {
-        String name = translator.apply(this.name);
+        String name = this.name.translate(translator);
         if (transformer != null) {
             name = transformer.apply(name);
         }
         item.setName(name);
     }
 
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return Collections.singletonList(name.getValue());
+    }
+
     /**
      * Set the function to transform the name
      *
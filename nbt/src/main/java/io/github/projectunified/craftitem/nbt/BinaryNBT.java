@@ -0,0 +1,466 @@
+package io.github.projectunified.craftitem.nbt;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes the binary NBT format (a tag id followed by its big-endian payload, optionally GZIP compressed).
+ *
+ * <p>Works on the same model as {@link SNBTConverter}: maps become compounds, lists become lists,
+ * typed numbers and arrays keep their tags, booleans become bytes and {@link NBTRaw} values are parsed with {@link SNBTParser}.
+ * Like in SNBT, strings holding a plain integer or decimal are written as int, float or double tags.
+ * Reading produces maps, lists, boxed numbers, strings and arrays.
+ *
+ * <p>The root value is written as a named tag with an empty name, as in Minecraft's NBT files.
+ *
+ * <p><strong>Example:</strong>
+ * <pre>{@code
+ * byte[] bytes = BinaryNBT.toByteArray(Map.of("key", 42), true);
+ * Object value = BinaryNBT.fromByteArray(bytes);
+ * // Returns: {key=42}
+ * }</pre>
+ */
+public final class BinaryNBT {
+    private static final byte TAG_END = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_COMPOUND = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    private static final int MAX_DEPTH = 512;
+    private static final int ARRAY_CHUNK_SIZE = 1024;
+
+    private BinaryNBT() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Writes a value as a root tag
+     *
+     * @param value  The value to write, null is written as an empty compound
+     * @param output The output to write to
+     * @throws IOException              if the output fails to write
+     * @throws IllegalArgumentException if the value cannot be represented in NBT (e.g. a list with mixed types)
+     */
+    public static void write(Object value, DataOutput output) throws IOException {
+        Object root = value == null ? new LinkedHashMap<String, Object>() : resolveRaw(value);
+        byte type = getTagType(root);
+        output.writeByte(type);
+        output.writeUTF("");
+        writePayload(type, root, output);
+    }
+
+    /**
+     * Writes a value as a root tag to the stream
+     *
+     * @param value      The value to write, null is written as an empty compound
+     * @param output     The stream to write to
+     * @param compressed If true, compress the data with GZIP
+     * @throws IOException              if the stream fails to write
+     * @throws IllegalArgumentException if the value cannot be represented in NBT (e.g. a list with mixed types)
+     */
+    public static void write(Object value, OutputStream output, boolean compressed) throws IOException {
+        if (compressed) {
+            GZIPOutputStream gzip = new GZIPOutputStream(output);
+            DataOutputStream dataOutput = new DataOutputStream(new BufferedOutputStream(gzip));
+            write(value, (DataOutput) dataOutput);
+            dataOutput.flush();
+            gzip.finish();
+        } else {
+            DataOutputStream dataOutput = new DataOutputStream(new BufferedOutputStream(output));
+            write(value, (DataOutput) dataOutput);
+            dataOutput.flush();
+        }
+    }
+
+    /**
+     * Writes an uncompressed root tag to the buffer
+     *
+     * @param value  The value to write, null is written as an empty compound
+     * @param buffer The buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough remaining space
+     * @throws IllegalArgumentException         if the value cannot be represented in NBT (e.g. a list with mixed types)
+     */
+    public static void write(Object value, ByteBuffer buffer) {
+        buffer.put(toByteArray(value, false));
+    }
+
+    /**
+     * Converts a value to a root tag in binary NBT format
+     *
+     * @param value      The value to convert, null is written as an empty compound
+     * @param compressed If true, compress the data with GZIP
+     * @return The bytes
+     * @throws IllegalArgumentException if the value cannot be represented in NBT (e.g. a list with mixed types)
+     */
+    public static byte[] toByteArray(Object value, boolean compressed) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            write(value, output, compressed);
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads a root tag
+     *
+     * @param input The input to read from
+     * @return The value (can be a Map, List, boxed number, String or array), or null if the root tag is an end tag
+     * @throws IOException              if the input fails to read or ends early
+     * @throws IllegalArgumentException if the data is not valid NBT
+     */
+    public static Object read(DataInput input) throws IOException {
+        byte type = input.readByte();
+        if (type == TAG_END) {
+            return null;
+        }
+        input.readUTF();
+        return readPayload(type, input, 0);
+    }
+
+    /**
+     * Reads a root tag from the stream
+     *
+     * @param input      The stream to read from
+     * @param compressed If true, decompress the data with GZIP
+     * @return The value (can be a Map, List, boxed number, String or array), or null if the root tag is an end tag
+     * @throws IOException              if the stream fails to read or ends early
+     * @throws IllegalArgumentException if the data is not valid NBT
+     */
+    public static Object read(InputStream input, boolean compressed) throws IOException {
+        InputStream stream = compressed ? new GZIPInputStream(input) : new BufferedInputStream(input);
+        return read((DataInput) new DataInputStream(stream));
+    }
+
+    /**
+     * Reads an uncompressed root tag from the buffer, advancing its position past the tag
+     *
+     * @param buffer The buffer to read from
+     * @return The value (can be a Map, List, boxed number, String or array), or null if the root tag is an end tag
+     * @throws IllegalArgumentException if the data is not valid NBT or ends early
+     */
+    public static Object read(ByteBuffer buffer) {
+        try {
+            return read((DataInput) new DataInputStream(new ByteBufferInputStream(buffer)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid NBT data", e);
+        }
+    }
+
+    /**
+     * Reads a root tag from bytes, decompressing them if they start with the GZIP header
+     *
+     * @param bytes The bytes to read
+     * @return The value (can be a Map, List, boxed number, String or array), or null if the root tag is an end tag
+     * @throws IllegalArgumentException if the data is not valid NBT or ends early
+     */
+    public static Object fromByteArray(byte[] bytes) {
+        boolean compressed = bytes.length >= 2
+                && (bytes[0] & 0xFF) == (GZIPInputStream.GZIP_MAGIC & 0xFF)
+                && (bytes[1] & 0xFF) == (GZIPInputStream.GZIP_MAGIC >>> 8);
+        try {
+            return read(new ByteArrayInputStream(bytes), compressed);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid NBT data", e);
+        }
+    }
+
+    /**
+     * Parses raw NBT data so that it can be written as tags
+     */
+    private static Object resolveRaw(Object value) {
+        return value instanceof NBTRaw ? SNBTParser.parse(((NBTRaw) value).value) : value;
+    }
+
+    /**
+     * Gets the tag type of a value, mirroring how {@link SNBTConverter} writes it
+     */
+    private static byte getTagType(Object value) {
+        if (value == null) return TAG_STRING;
+        if (value instanceof Map) return TAG_COMPOUND;
+        if (value instanceof Boolean || value instanceof Byte) return TAG_BYTE;
+        if (value instanceof Short) return TAG_SHORT;
+        if (value instanceof Integer) return TAG_INT;
+        if (value instanceof Long) return TAG_LONG;
+        if (value instanceof Float) return TAG_FLOAT;
+        if (value instanceof Double) return TAG_DOUBLE;
+        if (value instanceof String) return getStringTagType((String) value);
+        if (value instanceof List) return TAG_LIST;
+        if (value instanceof byte[]) return TAG_BYTE_ARRAY;
+        if (value instanceof int[]) return TAG_INT_ARRAY;
+        if (value instanceof long[]) return TAG_LONG_ARRAY;
+        return TAG_STRING;
+    }
+
+    /**
+     * Gets the tag type of a string, treating the plain numbers written unquoted by {@link SNBTConverter} as numbers.
+     * Decimals with an {@code f} suffix are floats, like in SNBT.
+     */
+    private static byte getStringTagType(String str) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) <= ' ') start++;
+        while (end > start && str.charAt(end - 1) <= ' ') end--;
+        if (NumberLiterals.isInteger(str, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            return TAG_INT;
+        }
+        int point = str.indexOf('.', start);
+        if (point >= 0 && point < end && NumberLiterals.isDecimal(str, start, end, true)) {
+            char last = str.charAt(end - 1);
+            return last == 'f' || last == 'F' ? TAG_FLOAT : TAG_DOUBLE;
+        }
+        return TAG_STRING;
+    }
+
+    private static void writePayload(byte type, Object value, DataOutput output) throws IOException {
+        switch (type) {
+            case TAG_BYTE:
+                output.writeByte(value instanceof Boolean ? ((Boolean) value ? 1 : 0) : (Byte) value);
+                break;
+            case TAG_SHORT:
+                output.writeShort((Short) value);
+                break;
+            case TAG_INT:
+                output.writeInt(value instanceof String ? Integer.parseInt(((String) value).trim()) : (Integer) value);
+                break;
+            case TAG_LONG:
+                output.writeLong((Long) value);
+                break;
+            case TAG_FLOAT:
+                output.writeFloat(value instanceof String ? Float.parseFloat(((String) value).trim()) : (Float) value);
+                break;
+            case TAG_DOUBLE:
+                output.writeDouble(value instanceof String ? Double.parseDouble(((String) value).trim()) : (Double) value);
+                break;
+            case TAG_STRING:
+                output.writeUTF(value == null ? "" : value.toString());
+                break;
+            case TAG_COMPOUND:
+                @SuppressWarnings("unchecked")
+                Map<String, Object> map = (Map<String, Object>) value;
+                writeCompound(map, output);
+                break;
+            case TAG_LIST:
+                writeList((List<?>) value, output);
+                break;
+            case TAG_BYTE_ARRAY:
+                byte[] bytes = (byte[]) value;
+                output.writeInt(bytes.length);
+                output.write(bytes);
+                break;
+            case TAG_INT_ARRAY:
+                int[] ints = (int[]) value;
+                output.writeInt(ints.length);
+                for (int i : ints) {
+                    output.writeInt(i);
+                }
+                break;
+            case TAG_LONG_ARRAY:
+                long[] longs = (long[]) value;
+                output.writeInt(longs.length);
+                for (long l : longs) {
+                    output.writeLong(l);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tag type: " + type);
+        }
+    }
+
+    private static void writeCompound(Map<String, Object> map, DataOutput output) throws IOException {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Object value = resolveRaw(entry.getValue());
+            byte type = getTagType(value);
+            output.writeByte(type);
+            output.writeUTF(entry.getKey());
+            writePayload(type, value, output);
+        }
+        output.writeByte(TAG_END);
+    }
+
+    private static void writeList(List<?> list, DataOutput output) throws IOException {
+        int size = list.size();
+        Object[] values = new Object[size];
+        byte elementType = TAG_END;
+        for (int i = 0; i < size; i++) {
+            Object value = resolveRaw(list.get(i));
+            byte type = getTagType(value);
+            if (i == 0) {
+                elementType = type;
+            } else if (type != elementType) {
+                throw new IllegalArgumentException("List elements must have the same tag type: " + list);
+            }
+            values[i] = value;
+        }
+        output.writeByte(elementType);
+        output.writeInt(size);
+        for (Object value : values) {
+            writePayload(elementType, value, output);
+        }
+    }
+
+    private static Object readPayload(byte type, DataInput input, int depth) throws IOException {
+        switch (type) {
+            case TAG_BYTE:
+                return input.readByte();
+            case TAG_SHORT:
+                return input.readShort();
+            case TAG_INT:
+                return input.readInt();
+            case TAG_LONG:
+                return input.readLong();
+            case TAG_FLOAT:
+                return input.readFloat();
+            case TAG_DOUBLE:
+                return input.readDouble();
+            case TAG_STRING:
+                return input.readUTF();
+            case TAG_BYTE_ARRAY: {
+                return readByteArray(input, readLength(input));
+            }
+            case TAG_INT_ARRAY: {
+                return readIntArray(input, readLength(input));
+            }
+            case TAG_LONG_ARRAY: {
+                return readLongArray(input, readLength(input));
+            }
+            case TAG_LIST:
+                return readList(input, checkDepth(depth));
+            case TAG_COMPOUND:
+                return readCompound(input, checkDepth(depth));
+            default:
+                throw new IllegalArgumentException("Unknown tag type: " + type);
+        }
+    }
+
+    private static Map<String, Object> readCompound(DataInput input, int depth) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            String key = input.readUTF();
+            map.put(key, readPayload(type, input, depth));
+        }
+        return map;
+    }
+
+    private static List<Object> readList(DataInput input, int depth) throws IOException {
+        byte elementType = input.readByte();
+        int size = readLength(input);
+        if (elementType == TAG_END && size > 0) {
+            throw new IllegalArgumentException("Non-empty list without an element type");
+        }
+        // Do not trust the size for the initial capacity
+        List<Object> list = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            list.add(readPayload(elementType, input, depth));
+        }
+        return list;
+    }
+
+    // Do not trust the length for the allocation, grow the array as the elements are read
+    private static byte[] readByteArray(DataInput input, int length) throws IOException {
+        byte[] bytes = new byte[Math.min(length, ARRAY_CHUNK_SIZE)];
+        int read = 0;
+        while (read < length) {
+            if (read == bytes.length) {
+                bytes = Arrays.copyOf(bytes, growCapacity(read, length));
+            }
+            input.readFully(bytes, read, bytes.length - read);
+            read = bytes.length;
+        }
+        return bytes;
+    }
+
+    private static int[] readIntArray(DataInput input, int length) throws IOException {
+        int[] ints = new int[Math.min(length, ARRAY_CHUNK_SIZE)];
+        for (int i = 0; i < length; i++) {
+            if (i == ints.length) {
+                ints = Arrays.copyOf(ints, growCapacity(i, length));
+            }
+            ints[i] = input.readInt();
+        }
+        return ints;
+    }
+
+    private static long[] readLongArray(DataInput input, int length) throws IOException {
+        long[] longs = new long[Math.min(length, ARRAY_CHUNK_SIZE)];
+        for (int i = 0; i < length; i++) {
+            if (i == longs.length) {
+                longs = Arrays.copyOf(longs, growCapacity(i, length));
+            }
+            longs[i] = input.readLong();
+        }
+        return longs;
+    }
+
+    private static int growCapacity(int capacity, int length) {
+        return (int) Math.min((long) capacity * 2, length);
+    }
+
+    private static int readLength(DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        return length;
+    }
+
+    private static int checkDepth(int depth) {
+        if (depth >= MAX_DEPTH) {
+            throw new IllegalArgumentException("NBT data is nested deeper than " + MAX_DEPTH + " levels");
+        }
+        return depth + 1;
+    }
+
+    /**
+     * Internal stream reading from a {@link ByteBuffer} and advancing its position.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.projectunified.craftitem.nbt;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -20,6 +23,8 @@ import java.util.function.UnaryOperator;
  * );
  * Object result = NBTMapNormalizer.normalize(map);  // Returns 123.45f
  * }</pre>
+ *
+ * <p>Values normalized repeatedly can be compiled once with {@link #compile(Object)}.
  */
 public final class NBTMapNormalizer {
     private NBTMapNormalizer() {
@@ -70,7 +75,7 @@ public final class NBTMapNormalizer {
         }
 
         if (value instanceof String) {
-            Number number = tryParseNumberWithSuffix(((String) value).trim());
+            Number number = tryParseNumberWithSuffix((String) value);
             if (number != null) {
                 return number;
             }
@@ -80,39 +85,344 @@ public final class NBTMapNormalizer {
     }
 
     /**
-     * Attempts to parse a string as a number with a type suffix
+     * Compiles a value into a plan for repeated normalization.
+     * Forced-value maps are validated and the values not passed to the translator are normalized ahead of time.
+     *
+     * @param value The value to compile
+     * @return The normalization plan
+     * @throws IllegalArgumentException if forced-value map is invalid, or a forced-value without translatable strings cannot be converted
+     */
+    public static NormalizationPlan compile(Object value) {
+        List<String> translatableValues = getTranslatableValues(value);
+        Function<UnaryOperator<String>, Object> root = compileNode(value);
+        return new NormalizationPlan(root, root instanceof ConstantNode, Collections.unmodifiableList(translatableValues));
+    }
+
+    /**
+     * Compiles a value into a node producing the same result as {@link #normalize(Object, UnaryOperator)}
+     */
+    private static Function<UnaryOperator<String>, Object> compileNode(Object value) {
+        if (value instanceof List) {
+            return compileList((List<?>) value);
+        }
+
+        if (value instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = (Map<String, Object>) value;
+
+            if (map.containsKey("$type")) {
+                if (!map.containsKey("$value")) {
+                    throw new IllegalArgumentException("Map with '$type' entry must also have '$value' entry");
+                }
+                return compileForcedValue(map.get("$type"), map.get("$value"));
+            }
+
+            int size = map.size();
+            String[] keys = new String[size];
+            Function<UnaryOperator<String>, Object>[] nodes = newNodeArray(size);
+            boolean constant = true;
+            int index = 0;
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                keys[index] = entry.getKey();
+                nodes[index] = compileNode(entry.getValue());
+                constant &= nodes[index] instanceof ConstantNode;
+                index++;
+            }
+
+            if (constant) {
+                Map<String, Object> result = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    result.put(keys[i], ((ConstantNode) nodes[i]).value);
+                }
+                return new ConstantNode(Collections.unmodifiableMap(result));
+            }
+            return translator -> {
+                Map<String, Object> result = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    result.put(keys[i], nodes[i].apply(translator));
+                }
+                return result;
+            };
+        }
+
+        if (value instanceof String) {
+            Number number = tryParseNumberWithSuffix((String) value);
+            if (number != null) {
+                return new ConstantNode(number);
+            }
+        }
+
+        return new ConstantNode(value);
+    }
+
+    /**
+     * Compiles a list into a node producing the same result as {@link #normalizeList(List, UnaryOperator)}
+     */
+    private static Function<UnaryOperator<String>, Object> compileList(List<?> list) {
+        int size = list.size();
+        Function<UnaryOperator<String>, Object>[] nodes = newNodeArray(size);
+        boolean constant = true;
+        for (int i = 0; i < size; i++) {
+            nodes[i] = compileNode(list.get(i));
+            constant &= nodes[i] instanceof ConstantNode;
+        }
+
+        if (constant) {
+            List<Object> result = new ArrayList<>();
+            for (Function<UnaryOperator<String>, Object> node : nodes) {
+                result.add(((ConstantNode) node).value);
+            }
+            return new ConstantNode(Collections.unmodifiableList(result));
+        }
+        return translator -> {
+            List<Object> result = new ArrayList<>();
+            for (Function<UnaryOperator<String>, Object> node : nodes) {
+                result.add(node.apply(translator));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Compiles a forced-value into a node producing the same result as {@link #normalizeForcedValue(Object, Object, UnaryOperator)}
+     */
+    private static Function<UnaryOperator<String>, Object> compileForcedValue(Object type, Object value) {
+        if (!(type instanceof String)) {
+            throw new IllegalArgumentException("Type must be a string");
+        }
+
+        String typeStr = ((String) type).toLowerCase();
+
+        switch (typeStr) {
+            case "byte":
+                return compileScalar(value, NBTMapNormalizer::normalizeToByte);
+            case "boolean":
+                return compileScalar(value, NBTMapNormalizer::normalizeToBoolean);
+            case "short":
+                return compileScalar(value, NBTMapNormalizer::normalizeToShort);
+            case "int":
+            case "integer":
+                return compileScalar(value, NBTMapNormalizer::normalizeToInt);
+            case "long":
+                return compileScalar(value, NBTMapNormalizer::normalizeToLong);
+            case "float":
+                return compileScalar(value, NBTMapNormalizer::normalizeToFloat);
+            case "double":
+                return compileScalar(value, NBTMapNormalizer::normalizeToDouble);
+            case "string": {
+                String str = value.toString();
+                return translator -> translator.apply(str);
+            }
+            case "raw": {
+                String str = value.toString();
+                return translator -> new NBTRaw(translator.apply(str));
+            }
+            case "list":
+                if (!(value instanceof List)) {
+                    throw new IllegalArgumentException("Value must be a List");
+                }
+                return compileList((List<?>) value);
+            case "compound":
+                return compileNode(value);
+            case "byte_array":
+            case "bytearray":
+                return compileArray(value, NBTMapNormalizer::normalizeToByteArray);
+            case "int_array":
+            case "intarray":
+                return compileArray(value, NBTMapNormalizer::normalizeToIntArray);
+            case "long_array":
+            case "longarray":
+                return compileArray(value, NBTMapNormalizer::normalizeToLongArray);
+            default:
+                throw new IllegalArgumentException("Unknown type: " + typeStr);
+        }
+    }
+
+    /**
+     * Compiles a forced scalar value, which is only passed to the translator if it is a string
+     */
+    private static Function<UnaryOperator<String>, Object> compileScalar(Object value, BiFunction<Object, UnaryOperator<String>, Object> normalizer) {
+        if (value instanceof String) {
+            String str = ((String) value).trim();
+            return translator -> normalizer.apply(str, translator);
+        }
+        return new ConstantNode(normalizer.apply(value, s -> s));
+    }
+
+    /**
+     * Compiles a forced array value, which is only passed to the translator if it has string items
+     */
+    private static Function<UnaryOperator<String>, Object> compileArray(Object value, BiFunction<Object, UnaryOperator<String>, Object> normalizer) {
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                if (item instanceof String) {
+                    return translator -> normalizer.apply(value, translator);
+                }
+            }
+        }
+        return new ConstantNode(normalizer.apply(value, s -> s));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<UnaryOperator<String>, Object>[] newNodeArray(int size) {
+        return (Function<UnaryOperator<String>, Object>[]) new Function<?, ?>[size];
+    }
+
+    /**
+     * Gets the raw strings that {@link #normalize(Object, UnaryOperator)} passes to the translator
+     *
+     * @param value The value to normalize
+     * @return The raw strings, in the order they are translated
+     * @throws IllegalArgumentException if forced-value map is invalid
+     */
+    public static List<String> getTranslatableValues(Object value) {
+        List<String> values = new ArrayList<>();
+        collectTranslatableValues(value, values);
+        return values;
+    }
+
+    /**
+     * Collects the raw strings passed to the translator while normalizing the value
+     */
+    private static void collectTranslatableValues(Object value, List<String> values) {
+        if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                collectTranslatableValues(element, values);
+            }
+        } else if (value instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = (Map<String, Object>) value;
+
+            if (map.containsKey("$type")) {
+                if (!map.containsKey("$value")) {
+                    throw new IllegalArgumentException("Map with '$type' entry must also have '$value' entry");
+                }
+                collectForcedTranslatableValues(map.get("$type"), map.get("$value"), values);
+                return;
+            }
+
+            for (Object element : map.values()) {
+                collectTranslatableValues(element, values);
+            }
+        }
+    }
+
+    /**
+     * Collects the raw strings passed to the translator while normalizing a forced-value
+     */
+    private static void collectForcedTranslatableValues(Object type, Object value, List<String> values) {
+        if (!(type instanceof String)) {
+            throw new IllegalArgumentException("Type must be a string");
+        }
+
+        String typeStr = ((String) type).toLowerCase();
+
+        switch (typeStr) {
+            case "byte":
+            case "boolean":
+            case "short":
+            case "int":
+            case "integer":
+            case "long":
+            case "float":
+            case "double":
+                if (value instanceof String) {
+                    values.add(((String) value).trim());
+                }
+                break;
+            case "string":
+            case "raw":
+                values.add(value.toString());
+                break;
+            case "list":
+                if (!(value instanceof List)) {
+                    throw new IllegalArgumentException("Value must be a List");
+                }
+                collectTranslatableValues(value, values);
+                break;
+            case "compound":
+                collectTranslatableValues(value, values);
+                break;
+            case "byte_array":
+            case "bytearray":
+            case "int_array":
+            case "intarray":
+            case "long_array":
+            case "longarray":
+                if (value instanceof List) {
+                    for (Object item : (List<?>) value) {
+                        if (item instanceof String) {
+                            values.add(((String) item).trim());
+                        }
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown type: " + typeStr);
+        }
+    }
+
+    /**
+     * Attempts to parse a string as a number with a type suffix, ignoring surrounding whitespace.
+     * Like the number parsers of Java, integers may have non-ASCII digits and decimals may have whitespace before the suffix.
      */
     private static Number tryParseNumberWithSuffix(String str) {
-        if (str.length() < 2) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && str.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start < 2) {
             return null;
         }
 
-        char lastChar = str.charAt(str.length() - 1);
-        String numPart = str.substring(0, str.length() - 1);
-
-        try {
-            switch (lastChar) {
-                case 'b':
-                case 'B':
-                    return Byte.parseByte(numPart);
-                case 's':
-                case 'S':
-                    return Short.parseShort(numPart);
-                case 'l':
-                case 'L':
-                    return Long.parseLong(numPart);
-                case 'f':
-                case 'F':
-                    return Float.parseFloat(numPart);
-                case 'd':
-                case 'D':
-                    return Double.parseDouble(numPart);
-                case 'i':
-                case 'I':
-                    return Integer.parseInt(numPart);
-            }
-        } catch (NumberFormatException e) {
-            // Not a valid number with this suffix
+        char lastChar = str.charAt(end - 1);
+        int numEnd = end - 1;
+        int decimalEnd = numEnd;
+        while (decimalEnd > start && str.charAt(decimalEnd - 1) <= ' ') {
+            decimalEnd--;
+        }
+
+        switch (lastChar) {
+            case 'b':
+            case 'B':
+                if (NumberLiterals.isInteger(str, start, numEnd, Byte.MIN_VALUE, Byte.MAX_VALUE, true)) {
+                    return (byte) NumberLiterals.parseInteger(str, start, numEnd);
+                }
+                break;
+            case 's':
+            case 'S':
+                if (NumberLiterals.isInteger(str, start, numEnd, Short.MIN_VALUE, Short.MAX_VALUE, true)) {
+                    return (short) NumberLiterals.parseInteger(str, start, numEnd);
+                }
+                break;
+            case 'l':
+            case 'L':
+                if (NumberLiterals.isInteger(str, start, numEnd, Long.MIN_VALUE, Long.MAX_VALUE, true)) {
+                    return NumberLiterals.parseInteger(str, start, numEnd);
+                }
+                break;
+            case 'f':
+            case 'F':
+                if (NumberLiterals.isDecimal(str, start, decimalEnd, true)) {
+                    return Float.parseFloat(str.substring(start, decimalEnd));
+                }
+                break;
+            case 'd':
+            case 'D':
+                if (NumberLiterals.isDecimal(str, start, decimalEnd, true)) {
+                    return Double.parseDouble(str.substring(start, decimalEnd));
+                }
+                break;
+            case 'i':
+            case 'I':
+                if (NumberLiterals.isInteger(str, start, numEnd, Integer.MIN_VALUE, Integer.MAX_VALUE, true)) {
+                    return (int) NumberLiterals.parseInteger(str, start, numEnd);
+                }
+                break;
         }
 
         return null;
@@ -360,4 +670,60 @@ public final class NBTMapNormalizer {
         }
         return arr;
     }
+
+    /**
+     * Internal node holding a value that was normalized ahead of time.
+     * Its maps and lists are unmodifiable and shared, while its arrays are copied on every call.
+     */
+    private static final class ConstantNode implements Function<UnaryOperator<String>, Object> {
+        private final Object value;
+        private final boolean hasArrays;
+
+        private ConstantNode(Object value) {
+            this.value = value;
+            this.hasArrays = hasArrays(value);
+        }
+
+        private static boolean hasArrays(Object value) {
+            if (value instanceof Map) {
+                for (Object item : ((Map<?, ?>) value).values()) {
+                    if (hasArrays(item)) return true;
+                }
+                return false;
+            }
+            if (value instanceof List) {
+                for (Object item : (List<?>) value) {
+                    if (hasArrays(item)) return true;
+                }
+                return false;
+            }
+            return value instanceof byte[] || value instanceof int[] || value instanceof long[];
+        }
+
+        private static Object copyArrays(Object value) {
+            if (value instanceof Map) {
+                Map<String, Object> result = new HashMap<>();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    result.put((String) entry.getKey(), copyArrays(entry.getValue()));
+                }
+                return Collections.unmodifiableMap(result);
+            }
+            if (value instanceof List) {
+                List<Object> result = new ArrayList<>();
+                for (Object item : (List<?>) value) {
+                    result.add(copyArrays(item));
+                }
+                return Collections.unmodifiableList(result);
+            }
+            if (value instanceof byte[]) return ((byte[]) value).clone();
+            if (value instanceof int[]) return ((int[]) value).clone();
+            if (value instanceof long[]) return ((long[]) value).clone();
+            return value;
+        }
+
+        @Override
+        public Object apply(UnaryOperator<String> translator) {
+            return hasArrays ? copyArrays(value) : value;
+        }
+    }
 }
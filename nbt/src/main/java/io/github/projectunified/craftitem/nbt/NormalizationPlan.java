@@ -0,0 +1,72 @@
+package io.github.projectunified.craftitem.nbt;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A value compiled by {@link NBTMapNormalizer#compile(Object)} for repeated normalization.
+ *
+ * <p>Forced-value maps are validated and dispatched once, and the subtrees that do not pass any string to the translator
+ * are normalized ahead of time. Normalizing the plan only evaluates the nodes holding translatable strings,
+ * and returns the same result as {@link NBTMapNormalizer#normalize(Object, UnaryOperator)} on the raw value.
+ *
+ * <p>The pre-normalized maps and lists are shared between calls and unmodifiable, and their arrays are copied on every call,
+ * so modifying a result never changes later results.
+ *
+ * <p><strong>Example:</strong>
+ * <pre>{@code
+ * NormalizationPlan plan = NBTMapNormalizer.compile(map);
+ * Object result = plan.normalize(translator);
+ * }</pre>
+ */
+public final class NormalizationPlan {
+    private final Function<UnaryOperator<String>, Object> root;
+    private final boolean constant;
+    private final List<String> translatableValues;
+
+    NormalizationPlan(Function<UnaryOperator<String>, Object> root, boolean constant, List<String> translatableValues) {
+        this.root = root;
+        this.constant = constant;
+        this.translatableValues = translatableValues;
+    }
+
+    /**
+     * Normalizes the compiled value
+     *
+     * @return Normalized value (can be a Map, primitive, or array)
+     */
+    public Object normalize() {
+        return normalize(s -> s);
+    }
+
+    /**
+     * Normalizes the compiled value with the translator
+     *
+     * @param translator Custom string translator for values
+     * @return Normalized value (can be a Map, primitive, or array)
+     * @throws IllegalArgumentException if a translated value cannot be converted to its forced type
+     */
+    public Object normalize(UnaryOperator<String> translator) {
+        return root.apply(translator);
+    }
+
+    /**
+     * Checks if the compiled value does not pass any string to the translator,
+     * in which case {@link #normalize(UnaryOperator)} always returns an equal result
+     *
+     * @return true if the result does not depend on the translator
+     */
+    public boolean isConstant() {
+        return constant;
+    }
+
+    /**
+     * Gets the raw strings passed to the translator, in the order they are translated
+     *
+     * @return The unmodifiable list of raw strings
+     */
+    public List<String> getTranslatableValues() {
+        return translatableValues;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.projectunified.craftitem.nbt;
+
+/**
+ * Classifies and parses number literals in a range of characters without exceptions or intermediate strings.
+ */
+final class NumberLiterals {
+    private NumberLiterals() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Checks if the range is a decimal integer literal (an optional sign followed by ASCII digits) within the bounds
+     *
+     * @param str   The characters
+     * @param start The start index (inclusive)
+     * @param end   The end index (exclusive)
+     * @param min   The minimum value
+     * @param max   The maximum value
+     * @return true if the range is an integer literal within the bounds
+     */
+    static boolean isInteger(CharSequence str, int start, int end, long min, long max) {
+        return isInteger(str, start, end, min, max, false);
+    }
+
+    /**
+     * Checks if the range is a decimal integer literal (an optional sign followed by digits) within the bounds
+     *
+     * @param str           The characters
+     * @param start         The start index (inclusive)
+     * @param end           The end index (exclusive)
+     * @param min           The minimum value
+     * @param max           The maximum value
+     * @param unicodeDigits Whether the non-ASCII decimal digits accepted by {@link Long#parseLong(String)} are accepted
+     * @return true if the range is an integer literal within the bounds
+     */
+    static boolean isInteger(CharSequence str, int start, int end, long min, long max, boolean unicodeDigits) {
+        if (start >= end) {
+            return false;
+        }
+        boolean negative = false;
+        char first = str.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+            if (start >= end) {
+                return false;
+            }
+        }
+        // Accumulate negatively to cover Long.MIN_VALUE
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            char c = str.charAt(i);
+            int digit = isDigit(c) ? c - '0' : unicodeDigits ? Character.digit(c, 10) : -1;
+            if (digit < 0) {
+                return false;
+            }
+            if (result < multiplyLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * Parses a range that was checked by {@link #isInteger(CharSequence, int, int, long, long, boolean)}
+     *
+     * @param str   The characters
+     * @param start The start index (inclusive)
+     * @param end   The end index (exclusive)
+     * @return The parsed value
+     */
+    static long parseInteger(CharSequence str, int start, int end) {
+        boolean negative = false;
+        char first = str.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+        }
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            char c = str.charAt(i);
+            result = result * 10 - (isDigit(c) ? c - '0' : Character.digit(c, 10));
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Checks if the range is a decimal floating-point literal accepted by {@link Double#parseDouble(String)}:
+     * an optional sign, digits with an optional fraction, an optional exponent and an optional {@code f}/{@code d} suffix.
+     * Hexadecimal, infinite and NaN literals are not accepted.
+     *
+     * @param str         The characters
+     * @param start       The start index (inclusive)
+     * @param end         The end index (exclusive)
+     * @param allowSuffix Whether a trailing {@code f}, {@code F}, {@code d} or {@code D} is accepted
+     * @return true if the range is a decimal literal
+     */
+    static boolean isDecimal(CharSequence str, int start, int end, boolean allowSuffix) {
+        if (start >= end) {
+            return false;
+        }
+        if (allowSuffix) {
+            char last = str.charAt(end - 1);
+            if (last == 'f' || last == 'F' || last == 'd' || last == 'D') {
+                end--;
+            }
+        }
+        int i = start;
+        char first = str.charAt(i);
+        if (first == '-' || first == '+') {
+            i++;
+        }
+        int digits = 0;
+        while (i < end && isDigit(str.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && str.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(str.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < end && (str.charAt(i) == 'e' || str.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < end && isDigit(str.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
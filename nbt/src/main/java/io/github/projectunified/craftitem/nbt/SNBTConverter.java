@@ -1,5 +1,7 @@
 package io.github.projectunified.craftitem.nbt;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
@@ -16,9 +18,24 @@ import java.util.Map;
  *
  * SNBTConverter.convert(Map.of("key", 42), true);
  * // Returns: [key=42]
+ *
+ * StringBuilder builder = new StringBuilder("minecraft:stone");
+ * SNBTConverter.convert(Map.of("key", 42), true, builder);
+ * // builder: minecraft:stone[key=42]
  * }</pre>
  */
 public final class SNBTConverter {
+    /**
+     * The ASCII characters allowed in unquoted strings and keys
+     */
+    private static final boolean[] UNQUOTED_CHARS = new boolean[128];
+
+    static {
+        for (char c = 0; c < UNQUOTED_CHARS.length; c++) {
+            UNQUOTED_CHARS[c] = Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == '+';
+        }
+    }
+
     private SNBTConverter() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
     }
@@ -41,227 +58,277 @@ public final class SNBTConverter {
      * @return SNBT formatted string
      */
     public static String convert(Object value, boolean useDataComponentFormat) {
+        StringBuilder builder = new StringBuilder();
+        convert(value, useDataComponentFormat, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Converts a value to SNBT format, writing it to the builder in a single pass
+     *
+     * @param value                  The value to convert
+     * @param useDataComponentFormat If true, use Minecraft data component format
+     * @param builder                The builder to write to
+     */
+    public static void convert(Object value, boolean useDataComponentFormat, StringBuilder builder) {
+        try {
+            convert(value, useDataComponentFormat, (Appendable) builder);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts a value to SNBT format, writing it to the output in a single pass
+     *
+     * @param value                  The value to convert
+     * @param useDataComponentFormat If true, use Minecraft data component format
+     * @param output                 The output to write to
+     * @throws IOException if the output fails to append
+     */
+    public static void convert(Object value, boolean useDataComponentFormat, Appendable output) throws IOException {
         if (value == null) {
-            return useDataComponentFormat ? "[]" : "{}";
+            output.append(useDataComponentFormat ? "[]" : "{}");
+            return;
         }
         if (value instanceof Map) {
             @SuppressWarnings("unchecked")
             Map<String, Object> map = (Map<String, Object>) value;
-            return convertToCompound(map, useDataComponentFormat);
+            writeCompound(map, useDataComponentFormat, output);
+            return;
         }
-        // For primitives and arrays, use convertValue
-        return convertValue(value);
+        // For primitives and arrays, use writeValue
+        writeValue(value, output);
     }
 
     /**
-     * Converts a value to SNBT format based on its Java type
+     * Writes a value in SNBT format based on its Java type
      */
-    private static String convertValue(Object value) {
+    private static void writeValue(Object value, Appendable output) throws IOException {
         if (value == null) {
-            return "\"\"";
+            output.append("\"\"");
+            return;
         }
 
         // Check for raw NBT data
         if (value instanceof NBTRaw) {
-            return ((NBTRaw) value).value;
+            output.append(((NBTRaw) value).value);
+            return;
         }
 
         // Check for map
         if (value instanceof Map) {
             @SuppressWarnings("unchecked")
             Map<String, Object> map = (Map<String, Object>) value;
-            return convertToCompound(map, false);
+            writeCompound(map, false, output);
+            return;
         }
 
         // Handle primitive types
         if (value instanceof Boolean) {
-            return value.toString();
+            output.append(String.valueOf(((Boolean) value).booleanValue()));
+            return;
         }
         if (value instanceof Byte) {
-            return value + "b";
+            appendInteger(((Byte) value).byteValue(), output);
+            output.append('b');
+            return;
         }
         if (value instanceof Short) {
-            return value + "s";
+            appendInteger(((Short) value).shortValue(), output);
+            output.append('s');
+            return;
         }
         if (value instanceof Integer) {
-            return value.toString();
+            appendInteger(((Integer) value).intValue(), output);
+            return;
         }
         if (value instanceof Long) {
-            return value + "L";
+            appendInteger(((Long) value).longValue(), output);
+            output.append('L');
+            return;
         }
         if (value instanceof Float) {
-            return value + "f";
+            output.append(String.valueOf(((Float) value).floatValue())).append('f');
+            return;
         }
         if (value instanceof Double) {
-            return value.toString();
+            output.append(String.valueOf(((Double) value).doubleValue()));
+            return;
         }
 
         // Handle strings
         if (value instanceof String) {
-            return convertStringValue((String) value);
+            writeStringValue((String) value, output);
+            return;
         }
 
         // Handle collections and arrays
         if (value instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Object> list = (List<Object>) value;
-            return convertToList(list);
+            writeList((List<?>) value, output);
+            return;
         }
         if (value instanceof byte[]) {
-            return convertToByteArray((byte[]) value);
+            writeByteArray((byte[]) value, output);
+            return;
         }
         if (value instanceof int[]) {
-            return convertToIntArray((int[]) value);
+            writeIntArray((int[]) value, output);
+            return;
         }
         if (value instanceof long[]) {
-            return convertToLongArray((long[]) value);
+            writeLongArray((long[]) value, output);
+            return;
         }
 
         // Fallback to string representation
-        return escapeString(value.toString());
+        writeEscaped(value.toString(), false, output);
     }
 
-    private static String convertToCompound(Map<String, Object> map, boolean useDataComponentFormat) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(useDataComponentFormat ? "[" : "{");
+    private static void writeCompound(Map<String, Object> map, boolean useDataComponentFormat, Appendable output) throws IOException {
+        output.append(useDataComponentFormat ? '[' : '{');
 
         boolean first = true;
         for (Map.Entry<String, Object> entry : map.entrySet()) {
-            if (!first) sb.append(",");
+            if (!first) output.append(',');
             first = false;
 
-            String key = entry.getKey();
-            sb.append(escapeKey(key)).append(useDataComponentFormat ? "=" : ":").append(convertValue(entry.getValue()));
+            writeEscaped(entry.getKey(), true, output);
+            output.append(useDataComponentFormat ? '=' : ':');
+            writeValue(entry.getValue(), output);
         }
 
-        sb.append(useDataComponentFormat ? "]" : "}");
-        return sb.toString();
+        output.append(useDataComponentFormat ? ']' : '}');
     }
 
-    private static String convertToList(List<?> list) {
-        StringBuilder sb = new StringBuilder("[");
+    private static void writeList(List<?> list, Appendable output) throws IOException {
+        output.append('[');
         for (int i = 0; i < list.size(); i++) {
-            if (i > 0) sb.append(",");
-            sb.append(convertValue(list.get(i)));
+            if (i > 0) output.append(',');
+            writeValue(list.get(i), output);
         }
-        sb.append("]");
-        return sb.toString();
+        output.append(']');
     }
 
-    private static String convertToByteArray(byte[] arr) {
-        StringBuilder sb = new StringBuilder("[B;");
+    private static void writeByteArray(byte[] arr, Appendable output) throws IOException {
+        output.append("[B;");
         for (int i = 0; i < arr.length; i++) {
-            if (i > 0) sb.append(",");
-            sb.append(arr[i]).append("b");
+            if (i > 0) output.append(',');
+            appendInteger(arr[i], output);
+            output.append('b');
         }
-        sb.append("]");
-        return sb.toString();
+        output.append(']');
     }
 
-    private static String convertToIntArray(int[] arr) {
-        StringBuilder sb = new StringBuilder("[I;");
+    private static void writeIntArray(int[] arr, Appendable output) throws IOException {
+        output.append("[I;");
         for (int i = 0; i < arr.length; i++) {
-            if (i > 0) sb.append(",");
-            sb.append(arr[i]);
+            if (i > 0) output.append(',');
+            appendInteger(arr[i], output);
         }
-        sb.append("]");
-        return sb.toString();
+        output.append(']');
     }
 
-    private static String convertToLongArray(long[] arr) {
-        StringBuilder sb = new StringBuilder("[L;");
+    private static void writeLongArray(long[] arr, Appendable output) throws IOException {
+        output.append("[L;");
         for (int i = 0; i < arr.length; i++) {
-            if (i > 0) sb.append(",");
-            sb.append(arr[i]).append("L");
+            if (i > 0) output.append(',');
+            appendInteger(arr[i], output);
+            output.append('L');
         }
-        sb.append("]");
-        return sb.toString();
+        output.append(']');
     }
 
     /**
-     * Converts a string value, checking for numeric literals with suffixes
+     * Appends an integer, without creating a string when the output is a {@link StringBuilder}
      */
-    private static String convertStringValue(String str) {
-        // Try parsing as plain number (int or double)
-        String plainNumber = tryParseNumber(str.trim());
-        if (plainNumber != null) {
-            return plainNumber;
+    private static void appendInteger(long value, Appendable output) throws IOException {
+        if (output instanceof StringBuilder) {
+            ((StringBuilder) output).append(value);
+        } else {
+            output.append(Long.toString(value));
         }
-
-        // Not a number, treat as string
-        return escapeString(str);
     }
 
     /**
-     * Attempts to parse a string as a plain number (int or double)
+     * Writes a string value, writing plain numeric literals (int or double) without quotes
      */
-    private static String tryParseNumber(String str) {
-        try {
-            if (str.contains(".")) {
-                Double.parseDouble(str);
-            } else {
-                Integer.parseInt(str);
-            }
-            return str;
-        } catch (NumberFormatException e) {
-            return null;
+    private static void writeStringValue(String str, Appendable output) throws IOException {
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && str.charAt(end - 1) <= ' ') {
+            end--;
         }
-    }
 
-    /**
-     * Escapes a string for SNBT format
-     */
-    private static String escapeString(String str) {
-        if (needsQuotes(str)) {
-            return "\"" + str.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        if (isPlainNumber(str, start, end)) {
+            output.append(str, start, end);
+            return;
         }
-        return str;
+
+        // Not a number, treat as string
+        writeEscaped(str, false, output);
     }
 
     /**
-     * Escapes a key for SNBT format
+     * Checks if the range is a plain number: an int or a decimal with a decimal point, with ASCII digits only
+     * as other digits are not numbers in SNBT
      */
-    private static String escapeKey(String key) {
-        if (needsQuotesForKey(key)) {
-            return "\"" + key.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    private static boolean isPlainNumber(String str, int start, int end) {
+        if (NumberLiterals.isInteger(str, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            return true;
         }
-        return key;
+        int point = str.indexOf('.', start);
+        return point >= 0 && point < end && NumberLiterals.isDecimal(str, start, end, true);
     }
 
     /**
-     * Checks if a string needs quotes
+     * Writes a string or a key, quoting and escaping it only if needed, in a single pass
+     *
+     * @param str     The string
+     * @param isKey   If true, the string may start like a number without quotes
+     * @param output  The output to write to
      */
-    private static boolean needsQuotes(String str) {
-        if (str.isEmpty()) {
-            return true;
-        }
-
-        char first = str.charAt(0);
-        if (Character.isDigit(first) || first == '-' || first == '.' || first == '+') {
-            return true;
+    private static void writeEscaped(String str, boolean isKey, Appendable output) throws IOException {
+        int length = str.length();
+        int index = 0;
+        if (length > 0 && (isKey || !startsLikeNumber(str.charAt(0)))) {
+            while (index < length && isUnquotedChar(str.charAt(index))) {
+                index++;
+            }
+            if (index == length) {
+                output.append(str);
+                return;
+            }
         }
 
-        for (char c : str.toCharArray()) {
-            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.' && c != '+') {
-                return true;
+        // The characters before the index are unquoted characters and need no escaping
+        output.append('"').append(str, 0, index);
+        int start = index;
+        for (; index < length; index++) {
+            char c = str.charAt(index);
+            if (c == '\\' || c == '"') {
+                output.append(str, start, index).append('\\');
+                start = index;
             }
         }
-        return false;
+        output.append(str, start, length).append('"');
     }
 
     /**
-     * Checks if a key needs quotes
+     * Checks if a string starting with the character needs quotes not to be read as a number
      */
-    private static boolean needsQuotesForKey(String key) {
-        if (key.isEmpty()) {
-            return true;
-        }
+    private static boolean startsLikeNumber(char first) {
+        return Character.isDigit(first) || first == '-' || first == '.' || first == '+';
+    }
 
-        for (char c : key.toCharArray()) {
-            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.' && c != '+') {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Checks if the character can be in an unquoted string
+     */
+    private static boolean isUnquotedChar(char c) {
+        return c < UNQUOTED_CHARS.length ? UNQUOTED_CHARS[c] : Character.isLetterOrDigit(c);
     }
 }
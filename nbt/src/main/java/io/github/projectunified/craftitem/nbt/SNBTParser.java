@@ -0,0 +1,420 @@
+package io.github.projectunified.craftitem.nbt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses SNBT (Minecraft's text NBT format) back into Java objects.
+ *
+ * <p>Produces the same model as {@link NBTMapNormalizer}: compounds become maps, lists become lists,
+ * typed numbers become {@link Byte}, {@link Short}, {@link Integer}, {@link Long}, {@link Float} or {@link Double},
+ * {@code true}/{@code false} become {@link Boolean}, and typed arrays become {@code byte[]}, {@code int[]} or {@code long[]}.
+ * Supports data component format with brackets and equals syntax.
+ * Like Minecraft, trailing commas in compounds, lists and arrays are rejected,
+ * and compounds and lists nested deeper than 512 levels are rejected.
+ *
+ * <p><strong>Example:</strong>
+ * <pre>{@code
+ * SNBTParser.parse("{key:42,name:\"test\"}");
+ * // Returns: {key=42, name=test}
+ *
+ * SNBTParser.parse("[key=42]", true);
+ * // Returns: {key=42}
+ * }</pre>
+ */
+public final class SNBTParser {
+    private static final int MAX_DEPTH = 512;
+
+    private final String input;
+    private final int length;
+    private int position;
+    private int depth;
+
+    private SNBTParser(String input) {
+        this.input = input;
+        this.length = input.length();
+    }
+
+    /**
+     * Parses an SNBT string
+     *
+     * @param snbt The SNBT string
+     * @return The parsed value (can be a Map, List, primitive, String or array)
+     * @throws IllegalArgumentException if the string is not valid SNBT
+     */
+    public static Object parse(String snbt) {
+        return parse(snbt, false);
+    }
+
+    /**
+     * Parses an SNBT string
+     *
+     * @param snbt                   The SNBT string
+     * @param useDataComponentFormat If true, parse the Minecraft data component format ({@code [key=value,...]}) into a Map
+     * @return The parsed value (can be a Map, List, primitive, String or array)
+     * @throws IllegalArgumentException if the string is not valid SNBT
+     */
+    public static Object parse(String snbt, boolean useDataComponentFormat) {
+        SNBTParser parser = new SNBTParser(snbt);
+        parser.skipWhitespace();
+        Object value = useDataComponentFormat ? parser.readCompound('[', ']', '=', true) : parser.readValue();
+        parser.skipWhitespace();
+        if (parser.position < parser.length) {
+            throw parser.error("Unexpected trailing data");
+        }
+        return value;
+    }
+
+    private Object readValue() {
+        if (position >= length) {
+            throw error("Expected a value");
+        }
+        char c = input.charAt(position);
+        switch (c) {
+            case '{':
+                return readCompound('{', '}', ':', false);
+            case '[':
+                return readListOrArray();
+            case '"':
+            case '\'':
+                return readQuoted();
+            default:
+                return readUnquotedValue();
+        }
+    }
+
+    private Map<String, Object> readCompound(char open, char close, char separator, boolean componentKeys) {
+        expect(open);
+        enterNested();
+        Map<String, Object> map = new LinkedHashMap<>();
+        skipWhitespace();
+        if (!tryConsume(close)) {
+            do {
+                String key = readKey(componentKeys);
+                skipWhitespace();
+                expect(separator);
+                skipWhitespace();
+                map.put(key, readValue());
+            } while (readSeparator(close));
+        }
+        depth--;
+        return map;
+    }
+
+    private Object readListOrArray() {
+        if (position + 2 < length && input.charAt(position + 2) == ';') {
+            char type = input.charAt(position + 1);
+            switch (type) {
+                case 'B':
+                    position += 3;
+                    return readByteArray();
+                case 'I':
+                    position += 3;
+                    return readIntArray();
+                case 'L':
+                    position += 3;
+                    return readLongArray();
+                default:
+                    throw error("Unknown array type: " + type);
+            }
+        }
+
+        expect('[');
+        enterNested();
+        List<Object> list = new ArrayList<>();
+        skipWhitespace();
+        if (!tryConsume(']')) {
+            do {
+                list.add(readValue());
+            } while (readSeparator(']'));
+        }
+        depth--;
+        return list;
+    }
+
+    private void enterNested() {
+        if (depth >= MAX_DEPTH) {
+            throw error("SNBT data is nested deeper than " + MAX_DEPTH + " levels");
+        }
+        depth++;
+    }
+
+    private byte[] readByteArray() {
+        List<Long> values = readArrayElements('b', 'B', Byte.MIN_VALUE, Byte.MAX_VALUE);
+        byte[] arr = new byte[values.size()];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = values.get(i).byteValue();
+        }
+        return arr;
+    }
+
+    private int[] readIntArray() {
+        List<Long> values = readArrayElements('i', 'I', Integer.MIN_VALUE, Integer.MAX_VALUE);
+        int[] arr = new int[values.size()];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = values.get(i).intValue();
+        }
+        return arr;
+    }
+
+    private long[] readLongArray() {
+        List<Long> values = readArrayElements('l', 'L', Long.MIN_VALUE, Long.MAX_VALUE);
+        long[] arr = new long[values.size()];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = values.get(i);
+        }
+        return arr;
+    }
+
+    private List<Long> readArrayElements(char lowerSuffix, char upperSuffix, long min, long max) {
+        List<Long> values = new ArrayList<>();
+        skipWhitespace();
+        if (tryConsume(']')) {
+            return values;
+        }
+        do {
+            int start = position;
+            int end = readUnquotedEnd();
+            int numberEnd = end;
+            char last = input.charAt(end - 1);
+            if (last == lowerSuffix || last == upperSuffix) {
+                numberEnd--;
+            }
+            if (!NumberLiterals.isInteger(input, start, numberEnd, min, max)) {
+                position = start;
+                throw error("Invalid array element: " + input.substring(start, end));
+            }
+            values.add(NumberLiterals.parseInteger(input, start, numberEnd));
+        } while (readSeparator(']'));
+        return values;
+    }
+
+    /**
+     * Reads the separator after an element, or the closing character.
+     * Like Minecraft, an element must follow the separator, so trailing commas are rejected.
+     *
+     * @return true if another element follows, false if the closing character was read
+     */
+    private boolean readSeparator(char close) {
+        skipWhitespace();
+        if (tryConsume(',')) {
+            skipWhitespace();
+            return true;
+        }
+        expect(close);
+        return false;
+    }
+
+    private String readKey(boolean componentKey) {
+        if (position >= length) {
+            throw error("Expected a key");
+        }
+        char c = input.charAt(position);
+        if (c == '"' || c == '\'') {
+            return readQuoted();
+        }
+        if (componentKey && c == '!') {
+            throw error("Removing data components is not supported");
+        }
+        int start = position;
+        while (position < length) {
+            c = input.charAt(position);
+            if (isUnquotedChar(c) || (componentKey && (c == ':' || c == '/'))) {
+                position++;
+            } else {
+                break;
+            }
+        }
+        if (start == position) {
+            throw error("Expected a key");
+        }
+        return input.substring(start, position);
+    }
+
+    private String readQuoted() {
+        char quote = input.charAt(position++);
+        int start = position;
+        StringBuilder builder = null;
+        while (position < length) {
+            char c = input.charAt(position);
+            if (c == quote) {
+                String value = builder == null ? input.substring(start, position) : builder.append(input, start, position).toString();
+                position++;
+                return value;
+            }
+            if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(input, start, position);
+                position++;
+                builder.append(readEscape());
+                start = position;
+            } else {
+                position++;
+            }
+        }
+        throw error("Unclosed quoted string");
+    }
+
+    private char readEscape() {
+        if (position >= length) {
+            throw error("Unclosed escape sequence");
+        }
+        char c = input.charAt(position++);
+        switch (c) {
+            case '\\':
+            case '"':
+            case '\'':
+                return c;
+            case 'n':
+                return '\n';
+            case 't':
+                return '\t';
+            case 'r':
+                return '\r';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 's':
+                return ' ';
+            case 'x':
+                return readHexEscape(2);
+            case 'u':
+                return readHexEscape(4);
+            default:
+                position--;
+                throw error("Invalid escape sequence: \\" + c);
+        }
+    }
+
+    private char readHexEscape(int digits) {
+        if (position + digits > length) {
+            throw error("Incomplete escape sequence");
+        }
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int digit = Character.digit(input.charAt(position), 16);
+            if (digit < 0) {
+                throw error("Invalid hex digit in escape sequence");
+            }
+            value = (value << 4) | digit;
+            position++;
+        }
+        return (char) value;
+    }
+
+    private Object readUnquotedValue() {
+        int start = position;
+        int end = readUnquotedEnd();
+        return parseUnquoted(input, start, end);
+    }
+
+    private int readUnquotedEnd() {
+        int start = position;
+        while (position < length && isUnquotedChar(input.charAt(position))) {
+            position++;
+        }
+        if (start == position) {
+            throw error(position < length ? "Unexpected character: " + input.charAt(position) : "Unexpected end of input");
+        }
+        return position;
+    }
+
+    /**
+     * Converts an unquoted token to a typed number, a boolean or a string
+     */
+    private static Object parseUnquoted(String str, int start, int end) {
+        int length = end - start;
+        if (length == 4 && str.regionMatches(start, "true", 0, 4)) {
+            return Boolean.TRUE;
+        }
+        if (length == 5 && str.regionMatches(start, "false", 0, 5)) {
+            return Boolean.FALSE;
+        }
+
+        char last = str.charAt(end - 1);
+        int numberEnd = end - 1;
+        switch (last) {
+            case 'b':
+            case 'B':
+                if (NumberLiterals.isInteger(str, start, numberEnd, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+                    return (byte) NumberLiterals.parseInteger(str, start, numberEnd);
+                }
+                break;
+            case 's':
+            case 'S':
+                if (NumberLiterals.isInteger(str, start, numberEnd, Short.MIN_VALUE, Short.MAX_VALUE)) {
+                    return (short) NumberLiterals.parseInteger(str, start, numberEnd);
+                }
+                break;
+            case 'i':
+            case 'I':
+                if (NumberLiterals.isInteger(str, start, numberEnd, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+                    return (int) NumberLiterals.parseInteger(str, start, numberEnd);
+                }
+                break;
+            case 'l':
+            case 'L':
+                if (NumberLiterals.isInteger(str, start, numberEnd, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                    return NumberLiterals.parseInteger(str, start, numberEnd);
+                }
+                break;
+            case 'f':
+            case 'F':
+                if (NumberLiterals.isDecimal(str, start, numberEnd, false)) {
+                    return Float.parseFloat(str.substring(start, numberEnd));
+                }
+                break;
+            case 'd':
+            case 'D':
+                if (NumberLiterals.isDecimal(str, start, numberEnd, false)) {
+                    return Double.parseDouble(str.substring(start, numberEnd));
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (NumberLiterals.isInteger(str, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            return (int) NumberLiterals.parseInteger(str, start, end);
+        }
+        // Like Minecraft, an unsuffixed decimal needs a decimal point; out-of-range integers stay strings
+        int point = str.indexOf('.', start);
+        if (point >= 0 && point < end && NumberLiterals.isDecimal(str, start, end, false)) {
+            return Double.parseDouble(str.substring(start, end));
+        }
+        return str.substring(start, end);
+    }
+
+    private static boolean isUnquotedChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == '+';
+    }
+
+    private void skipWhitespace() {
+        while (position < length && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    private boolean tryConsume(char c) {
+        if (position < length && input.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!tryConsume(c)) {
+            throw error(position < length ? "Expected '" + c + "' but found '" + input.charAt(position) + "'" : "Expected '" + c + "' but reached the end");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position + ": " + input);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.projectunified.craftitem.nbt;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryNBTTest {
+    private static Object read(byte... bytes) throws Exception {
+        return BinaryNBT.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void roundTrip() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("byte", (byte) 1);
+        map.put("int", 42);
+        map.put("string", "text");
+        map.put("list", Arrays.asList(1, 2, 3));
+        map.put("bytes", new byte[]{1, 2, 3});
+        map.put("ints", new int[3000]);
+        map.put("longs", new long[]{1L, Long.MAX_VALUE});
+
+        for (boolean compressed : new boolean[]{false, true}) {
+            Map<?, ?> read = (Map<?, ?>) BinaryNBT.fromByteArray(BinaryNBT.toByteArray(map, compressed));
+            assertEquals((byte) 1, read.get("byte"));
+            assertEquals(42, read.get("int"));
+            assertEquals("text", read.get("string"));
+            assertEquals(Arrays.asList(1, 2, 3), read.get("list"));
+            assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) read.get("bytes"));
+            assertArrayEquals(new int[3000], (int[]) read.get("ints"));
+            assertArrayEquals(new long[]{1L, Long.MAX_VALUE}, (long[]) read.get("longs"));
+        }
+    }
+
+    @Test
+    void stringNumbersLikeSNBT() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("int", " 42 ");
+        map.put("double", "1.5");
+        map.put("float", "1.5f");
+        map.put("suffixed", "1.5d");
+        map.put("digit", "\u0663");
+
+        Map<?, ?> read = (Map<?, ?>) BinaryNBT.fromByteArray(BinaryNBT.toByteArray(map, false));
+        assertEquals(42, read.get("int"));
+        assertEquals(1.5, read.get("double"));
+        assertEquals(1.5f, read.get("float"));
+        assertEquals(1.5, read.get("suffixed"));
+        // Written quoted by SNBTConverter, as SNBT numbers only have ASCII digits
+        assertEquals("\u0663", read.get("digit"));
+        assertEquals("{int:42,double:1.5,float:1.5f,suffixed:1.5d,digit:\"\u0663\"}", SNBTConverter.convert(map));
+    }
+
+    @Test
+    void roundTripBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        BinaryNBT.write(new byte[]{4, 5, 6}, buffer);
+        buffer.flip();
+        assertArrayEquals(new byte[]{4, 5, 6}, (byte[]) BinaryNBT.read(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void oversizedArrayLength() {
+        // Root byte array tag with an empty name and a length of Integer.MAX_VALUE, but no elements
+        assertThrows(EOFException.class, () -> read((byte) 7, (byte) 0, (byte) 0, (byte) 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff));
+        assertThrows(EOFException.class, () -> read((byte) 11, (byte) 0, (byte) 0, (byte) 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff));
+        assertThrows(EOFException.class, () -> read((byte) 12, (byte) 0, (byte) 0, (byte) 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff));
+        assertThrows(IllegalArgumentException.class, () -> BinaryNBT.read(ByteBuffer.wrap(new byte[]{7, 0, 0, 0x7f, -1, -1, -1})));
+    }
+
+    @Test
+    void truncatedArray() {
+        assertThrows(EOFException.class, () -> read((byte) 7, (byte) 0, (byte) 0, (byte) 0, (byte) 0, (byte) 0, (byte) 3, (byte) 1, (byte) 2));
+        assertThrows(EOFException.class, () -> read((byte) 11, (byte) 0, (byte) 0, (byte) 0, (byte) 0, (byte) 0, (byte) 2, (byte) 0, (byte) 0, (byte) 0, (byte) 1));
+    }
+
+    @Test
+    void negativeArrayLength() {
+        assertThrows(IllegalArgumentException.class, () -> read((byte) 7, (byte) 0, (byte) 0, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff));
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.projectunified.craftitem.nbt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NBTMapNormalizerTest {
+    @Test
+    void normalizeSuffixedNumbers() {
+        assertEquals((byte) 5, NBTMapNormalizer.normalize(" 5b "));
+        assertEquals((short) -3, NBTMapNormalizer.normalize("-3s"));
+        assertEquals(7L, NBTMapNormalizer.normalize("7L"));
+        assertEquals(9, NBTMapNormalizer.normalize("9i"));
+        assertEquals(1.5f, NBTMapNormalizer.normalize("1.5f"));
+        assertEquals(2.0, NBTMapNormalizer.normalize("2d"));
+        assertEquals("128b", NBTMapNormalizer.normalize("128b"));
+        assertEquals("x5b", NBTMapNormalizer.normalize("x5b"));
+    }
+
+    @Test
+    void normalizeLikeJavaNumberParsers() {
+        // Float.parseFloat and Double.parseDouble ignore whitespace before the suffix
+        assertEquals(5.0f, NBTMapNormalizer.normalize("5 f"));
+        assertEquals(-25.0, NBTMapNormalizer.normalize("-25\td"));
+        assertEquals(5.0f, NBTMapNormalizer.normalize("5ff"));
+        // Byte.parseByte and the like do not
+        assertEquals("5 b", NBTMapNormalizer.normalize("5 b"));
+        // Integer parsers accept non-ASCII digits
+        assertEquals((byte) 3, NBTMapNormalizer.normalize("\u0663b"));
+        assertEquals(15L, NBTMapNormalizer.normalize("1\uff15L"));
+        // SNBT numbers only have ASCII digits
+        assertEquals("{k:\"\u0663\"}", SNBTConverter.convert(Collections.singletonMap("k", "\u0663")));
+    }
+
+    @Test
+    void constantPlanResultsAreNotShared() {
+        Map<String, Object> forced = new LinkedHashMap<>();
+        forced.put("$type", "int_array");
+        forced.put("$value", Arrays.asList(1, 2));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("list", Arrays.asList(1, 2));
+        map.put("ints", forced);
+
+        NormalizationPlan plan = NBTMapNormalizer.compile(map);
+        assertTrue(plan.isConstant());
+        Map<?, ?> first = (Map<?, ?>) plan.normalize();
+        assertThrows(UnsupportedOperationException.class, () -> first.clear());
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) first.get("list")).clear());
+        ((int[]) first.get("ints"))[0] = 42;
+
+        Map<?, ?> second = (Map<?, ?>) plan.normalize();
+        assertArrayEquals(new int[]{1, 2}, (int[]) second.get("ints"));
+    }
+}
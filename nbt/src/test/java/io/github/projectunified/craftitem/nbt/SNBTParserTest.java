@@ -0,0 +1,101 @@
+package io.github.projectunified.craftitem.nbt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SNBTParserTest {
+    @Test
+    void parseValues() {
+        Map<?, ?> map = (Map<?, ?>) SNBTParser.parse("{a:1b,b:2s,c:3,d:4L,e:1.5f,f:2.5,g:true,h:'text',i:\"q\\\"uote\",j:plain}");
+        assertEquals((byte) 1, map.get("a"));
+        assertEquals((short) 2, map.get("b"));
+        assertEquals(3, map.get("c"));
+        assertEquals(4L, map.get("d"));
+        assertEquals(1.5f, map.get("e"));
+        assertEquals(2.5, map.get("f"));
+        assertEquals(Boolean.TRUE, map.get("g"));
+        assertEquals("text", map.get("h"));
+        assertEquals("q\"uote", map.get("i"));
+        assertEquals("plain", map.get("j"));
+    }
+
+    @Test
+    void parseEmptyContainers() {
+        assertEquals(Collections.emptyMap(), SNBTParser.parse("{ }"));
+        assertEquals(Collections.emptyList(), SNBTParser.parse("[ ]"));
+        assertArrayEquals(new byte[0], (byte[]) SNBTParser.parse("[B; ]"));
+        assertEquals(Collections.emptyMap(), SNBTParser.parse("[]", true));
+    }
+
+    @Test
+    void parseArrays() {
+        assertArrayEquals(new byte[]{1, -2}, (byte[]) SNBTParser.parse("[B;1b, -2B]"));
+        assertArrayEquals(new int[]{1, 2}, (int[]) SNBTParser.parse("[I;1,2]"));
+        assertArrayEquals(new long[]{1L, Long.MAX_VALUE}, (long[]) SNBTParser.parse("[L;1L,9223372036854775807L]"));
+    }
+
+    @Test
+    void parseDataComponentFormat() {
+        Map<?, ?> map = (Map<?, ?>) SNBTParser.parse("[minecraft:max_stack_size=16,lore=['a','b']]", true);
+        assertEquals(16, map.get("minecraft:max_stack_size"));
+        assertEquals(Arrays.asList("a", "b"), map.get("lore"));
+    }
+
+    @Test
+    void roundTrip() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "A \"quoted\" name");
+        map.put("count", 5);
+        map.put("scale", 0.5f);
+        map.put("list", Arrays.asList(1, 2, 3));
+        map.put("bytes", new byte[]{1, 2});
+
+        Map<?, ?> parsed = (Map<?, ?>) SNBTParser.parse(SNBTConverter.convert(map));
+        assertEquals("A \"quoted\" name", parsed.get("name"));
+        assertEquals(5, parsed.get("count"));
+        assertEquals(0.5f, parsed.get("scale"));
+        assertEquals(Arrays.asList(1, 2, 3), parsed.get("list"));
+        assertArrayEquals(new byte[]{1, 2}, (byte[]) parsed.get("bytes"));
+    }
+
+    @Test
+    void rejectTruncatedInput() {
+        for (String input : new String[]{"", "{", "{a", "{a:", "{a:1", "[", "[1,", "[B;", "[B;1b,", "[I;1", "\"text", "'\\u00"}) {
+            assertThrows(IllegalArgumentException.class, () -> SNBTParser.parse(input), input);
+        }
+        assertThrows(IllegalArgumentException.class, () -> SNBTParser.parse("[a=", true));
+    }
+
+    @Test
+    void rejectTrailingCommas() {
+        for (String input : new String[]{"{a:1,}", "[1,]", "[B;1b,]", "[I;1, ]", "[L;1L,]", "{a:[1,],}"}) {
+            assertThrows(IllegalArgumentException.class, () -> SNBTParser.parse(input), input);
+        }
+        assertThrows(IllegalArgumentException.class, () -> SNBTParser.parse("[a=1,]", true));
+    }
+
+    @Test
+    void rejectTrailingData() {
+        assertThrows(IllegalArgumentException.class, () -> SNBTParser.parse("{a:1}}"));
+        assertThrows(IllegalArgumentException.class, () -> SNBTParser.parse("[B;128b]"));
+    }
+
+    @Test
+    void rejectDeepNesting() {
+        StringBuilder nested = new StringBuilder();
+        for (int i = 0; i < 512; i++) nested.append('[');
+        for (int i = 0; i < 512; i++) nested.append(']');
+        assertTrue(SNBTParser.parse(nested.toString()) instanceof List);
+
+        StringBuilder deep = new StringBuilder();
+        for (int i = 0; i < 1000; i++) deep.append('[');
+        assertThrows(IllegalArgumentException.class, () -> SNBTParser.parse(deep.toString()));
+    }
+}
@@ -23,10 +23,24 @@ import java.util.function.Consumer;
  * item.editMeta(meta -> meta.setCustomModelData(1));
  * ItemStack resultStack = item.getItemStack();
  * }</pre>
+ *
+ * <p>In deferred-meta mode, metadata edits share a cached ItemMeta that is only written to the
+ * ItemStack on {@link #getItemStack()}, {@link #edit(Consumer)} or {@link #commit()}:
+ * <pre>{@code
+ * SpigotItem item = new SpigotItem(Material.DIAMOND_SWORD);
+ * item.setDeferMeta(true);
+ * item.setName("Legendary Sword");
+ * item.editMeta(meta -> meta.setLore(lore));
+ * item.commit();
+ * }</pre>
  */
 public class SpigotItem implements Item {
     private final UUID owner;
     private ItemStack itemStack;
+    private ItemMeta pendingMeta;
+    private boolean pendingMetaDirty;
+    private int metaBatchDepth;
+    private boolean deferMeta;
 
     /**
      * Creates a new SpigotItem with the specified ItemStack and owner.
@@ -87,28 +101,34 @@ public class SpigotItem implements Item {
 
     /**
      * Gets the underlying ItemStack.
+     * Any pending metadata edits are written to the ItemStack first.
      *
      * @return the ItemStack
      */
     public ItemStack getItemStack() {
+        flushMeta();
         return itemStack;
     }
 
     /**
      * Sets the underlying ItemStack (cloned to prevent external modifications).
+     * Any pending metadata edits are discarded, as the ItemStack is replaced entirely.
      *
      * @param itemStack the new ItemStack
      */
     public void setItemStack(ItemStack itemStack) {
+        discardMeta();
         this.itemStack = itemStack.clone();
     }
 
     /**
      * Allows direct modification of the ItemStack.
+     * Any pending metadata edits are written to the ItemStack first.
      *
      * @param consumer the consumer to modify the ItemStack
      */
     public void edit(Consumer<ItemStack> consumer) {
+        flushMeta();
         consumer.accept(this.itemStack);
     }
 
@@ -118,10 +138,10 @@ public class SpigotItem implements Item {
      * @param consumer the consumer to modify the ItemMeta
      */
     public void editMeta(Consumer<ItemMeta> consumer) {
-        ItemMeta meta = this.itemStack.getItemMeta();
+        ItemMeta meta = openMeta();
         if (meta == null) return;
         consumer.accept(meta);
-        this.itemStack.setItemMeta(meta);
+        closeMeta(meta);
     }
 
     /**
@@ -132,11 +152,117 @@ public class SpigotItem implements Item {
      * @param consumer  the consumer to modify the metadata
      */
     public <T extends ItemMeta> void editMeta(Class<T> metaClass, Consumer<T> consumer) {
-        ItemMeta meta = this.itemStack.getItemMeta();
+        ItemMeta meta = openMeta();
         if (meta == null) return;
         if (!metaClass.isInstance(meta)) return;
         consumer.accept(metaClass.cast(meta));
-        this.itemStack.setItemMeta(meta);
+        closeMeta(meta);
+    }
+
+    /**
+     * Checks if the item is in deferred-meta mode.
+     *
+     * @return true if metadata edits are deferred until committed
+     */
+    public boolean isDeferMeta() {
+        return deferMeta;
+    }
+
+    /**
+     * Sets whether the item is in deferred-meta mode.
+     * In this mode, metadata edits share a cached ItemMeta instead of copying it on each edit.
+     * The cached ItemMeta is written to the ItemStack on {@link #getItemStack()}, {@link #edit(Consumer)}
+     * or {@link #commit()}. Turning the mode off commits any pending edits.
+     *
+     * @param deferMeta true to defer metadata edits until committed
+     */
+    public void setDeferMeta(boolean deferMeta) {
+        this.deferMeta = deferMeta;
+        if (!deferMeta && metaBatchDepth == 0) {
+            flushMeta();
+        }
+    }
+
+    /**
+     * Writes any pending metadata edits to the ItemStack.
+     */
+    public void commit() {
+        flushMeta();
+    }
+
+    /**
+     * Starts a metadata batch.
+     * Until the matching {@link #endMetaBatch()}, all metadata edits share a single ItemMeta instance.
+     */
+    void beginMetaBatch() {
+        metaBatchDepth++;
+    }
+
+    /**
+     * Ends a metadata batch.
+     * When the outermost batch ends, the shared ItemMeta is written to the ItemStack.
+     */
+    void endMetaBatch() {
+        if (--metaBatchDepth == 0 && !deferMeta) {
+            flushMeta();
+        }
+    }
+
+    /**
+     * Gets the ItemMeta to edit, reusing the pending one during a metadata batch or in deferred-meta mode.
+     *
+     * @return the ItemMeta, or null if the ItemStack has no metadata
+     */
+    private ItemMeta openMeta() {
+        if (!isMetaShared()) {
+            return this.itemStack.getItemMeta();
+        }
+        if (pendingMeta == null) {
+            pendingMeta = this.itemStack.getItemMeta();
+        }
+        return pendingMeta;
+    }
+
+    /**
+     * Writes the edited ItemMeta to the ItemStack, or marks it as pending if it is shared.
+     *
+     * @param meta the edited ItemMeta
+     */
+    private void closeMeta(ItemMeta meta) {
+        if (!isMetaShared()) {
+            this.itemStack.setItemMeta(meta);
+        } else {
+            pendingMetaDirty = true;
+        }
+    }
+
+    /**
+     * Checks if metadata edits currently share a pending ItemMeta.
+     *
+     * @return true if in a metadata batch or in deferred-meta mode
+     */
+    private boolean isMetaShared() {
+        return deferMeta || metaBatchDepth > 0;
+    }
+
+    /**
+     * Writes the pending ItemMeta to the ItemStack if it was edited, then drops it.
+     */
+    private void flushMeta() {
+        ItemMeta meta = pendingMeta;
+        boolean dirty = pendingMetaDirty;
+        discardMeta();
+        if (meta != null && dirty) {
+            this.itemStack.setItemMeta(meta);
+        }
+    }
+
+    /**
+     * Drops the pending ItemMeta without writing it.
+     */
+    private void discardMeta() {
+        pendingMeta = null;
+        pendingMetaDirty = false;
     }
 
     /**
@@ -0,0 +1,179 @@
+package io.github.projectunified.craftitem.spigot.core;
+
+import io.github.projectunified.craftitem.core.ItemModifier;
+import io.github.projectunified.craftitem.core.ItemRecipe;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A prototype of an item that pre-applies the translator-independent modifiers once.
+ *
+ * <p>On creation, every modifier whose {@link ItemModifier#dependsOnTranslator()} is false is applied
+ * to a frozen prototype ItemStack. Each instantiation then clones the prototype and only applies
+ * the translator-dependent modifiers, in their original relative order.
+ *
+ * <p>Since the translator-independent modifiers are applied ahead of the others, the result is only
+ * equivalent to applying all modifiers in order when they do not depend on the output of an earlier
+ * translator-dependent modifier. They are also applied without an owner.
+ * Modifiers of nested {@link ItemRecipe}s are considered individually.
+ *
+ * <p>When a placeholder key extractor is given, modifiers whose values contain no placeholder keys
+ * (see {@link ItemModifier#getPlaceholderKeys(Function)}) are also pre-applied, with the given static translator.
+ * The translator may still do more than substituting placeholders (e.g. translating color codes),
+ * so the static translator must give those modifiers the same result as the translators given on instantiation.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * SpigotItemPrototype prototype = new SpigotItemPrototype(Material.DIAMOND_SWORD, List.of(
+ *     new EnchantmentModifier(Map.of(Enchantment.DAMAGE_ALL, 5)),
+ *     new ItemFlagModifier(List.of(ItemFlag.HIDE_ENCHANTS)),
+ *     new NameModifier("Sword of ${player}")
+ * ));
+ * ItemStack itemStack = prototype.create(player.getUniqueId(), translator).getItemStack();
+ * }</pre>
+ */
+public class SpigotItemPrototype {
+    private final ItemStack prototype;
+    private final SpigotItemRecipe dynamicRecipe;
+
+    /**
+     * Creates a new SpigotItemPrototype from the specified base ItemStack and modifiers.
+     *
+     * @param itemStack the base ItemStack (will be cloned)
+     * @param modifiers the modifiers to apply, in order
+     */
+    public SpigotItemPrototype(ItemStack itemStack, List<? extends ItemModifier> modifiers) {
+        this(modifier -> !modifier.dependsOnTranslator(), UnaryOperator.identity(), itemStack, modifiers);
+    }
+
+    /**
+     * Creates a new SpigotItemPrototype from the specified base ItemStack and modifiers,
+     * also pre-applying the modifiers whose values contain no placeholder keys with the static translator.
+     *
+     * @param itemStack        the base ItemStack (will be cloned)
+     * @param modifiers        the modifiers to apply, in order
+     * @param keyExtractor     the function to extract the placeholder keys from a raw value
+     * @param staticTranslator the translator to pre-apply the modifiers without placeholder keys with,
+     *                         which must give them the same result as the translators given on instantiation
+     */
+    public SpigotItemPrototype(ItemStack itemStack, List<? extends ItemModifier> modifiers, Function<String, ? extends Collection<String>> keyExtractor, UnaryOperator<String> staticTranslator) {
+        this(modifier -> {
+            Set<String> keys = modifier.getPlaceholderKeys(keyExtractor);
+            return keys != null && keys.isEmpty();
+        }, staticTranslator, itemStack, modifiers);
+    }
+
+    /**
+     * Creates a new SpigotItemPrototype from the specified Material type and modifiers,
+     * also pre-applying the modifiers whose values contain no placeholder keys with the static translator.
+     *
+     * @param material         the Material type of the base ItemStack
+     * @param modifiers        the modifiers to apply, in order
+     * @param keyExtractor     the function to extract the placeholder keys from a raw value
+     * @param staticTranslator the translator to pre-apply the modifiers without placeholder keys with,
+     *                         which must give them the same result as the translators given on instantiation
+     */
+    public SpigotItemPrototype(Material material, List<? extends ItemModifier> modifiers, Function<String, ? extends Collection<String>> keyExtractor, UnaryOperator<String> staticTranslator) {
+        this(new ItemStack(material), modifiers, keyExtractor, staticTranslator);
+    }
+
+    /**
+     * Creates a new SpigotItemPrototype from the specified Material type and modifiers.
+     *
+     * @param material  the Material type of the base ItemStack
+     * @param modifiers the modifiers to apply, in order
+     */
+    public SpigotItemPrototype(Material material, List<? extends ItemModifier> modifiers) {
+        this(new ItemStack(material), modifiers);
+    }
+
+    /**
+     * Creates a new SpigotItemPrototype of STONE material from the specified modifiers.
+     *
+     * @param modifiers the modifiers to apply, in order
+     */
+    public SpigotItemPrototype(List<? extends ItemModifier> modifiers) {
+        this(Material.STONE, modifiers);
+    }
+
+    private SpigotItemPrototype(Predicate<ItemModifier> isStatic, UnaryOperator<String> staticTranslator, ItemStack itemStack, List<? extends ItemModifier> modifiers) {
+        List<ItemModifier> staticModifiers = new ArrayList<>();
+        List<ItemModifier> dynamicModifiers = new ArrayList<>();
+        split(modifiers, isStatic, staticModifiers, dynamicModifiers);
+
+        SpigotItem item = new SpigotItem(itemStack);
+        new SpigotItemRecipe(staticModifiers).modify(item, staticTranslator);
+        this.prototype = item.getItemStack();
+        this.dynamicRecipe = new SpigotItemRecipe(dynamicModifiers);
+    }
+
+    /**
+     * Splits the modifiers into translator-independent and translator-dependent ones, flattening recipes.
+     *
+     * @param modifiers        the modifiers to split
+     * @param isStatic         the predicate to check if a modifier is translator-independent
+     * @param staticModifiers  the list to add the translator-independent modifiers to
+     * @param dynamicModifiers the list to add the translator-dependent modifiers to
+     */
+    private static void split(List<? extends ItemModifier> modifiers, Predicate<ItemModifier> isStatic, List<ItemModifier> staticModifiers, List<ItemModifier> dynamicModifiers) {
+        for (ItemModifier modifier : modifiers) {
+            if (modifier instanceof ItemRecipe) {
+                split(((ItemRecipe) modifier).getModifiers(), isStatic, staticModifiers, dynamicModifiers);
+            } else if (isStatic.test(modifier)) {
+                staticModifiers.add(modifier);
+            } else {
+                dynamicModifiers.add(modifier);
+            }
+        }
+    }
+
+    /**
+     * Gets a copy of the prototype ItemStack with only the translator-independent modifiers applied.
+     *
+     * @return the prototype ItemStack
+     */
+    public ItemStack getPrototype() {
+        return prototype.clone();
+    }
+
+    /**
+     * Gets the recipe of the translator-dependent modifiers applied on each instantiation.
+     *
+     * @return the recipe
+     */
+    public SpigotItemRecipe getDynamicRecipe() {
+        return dynamicRecipe;
+    }
+
+    /**
+     * Creates a new item from the prototype, applying the translator-dependent modifiers.
+     *
+     * @param owner      the UUID of the item's owner, or null
+     * @param translator the string translator for variable substitution
+     * @return the new SpigotItem
+     */
+    public SpigotItem create(UUID owner, UnaryOperator<String> translator) {
+        SpigotItem item = new SpigotItem(prototype, owner);
+        dynamicRecipe.modify(item, translator);
+        return item;
+    }
+
+    /**
+     * Creates a new item with no owner from the prototype, applying the translator-dependent modifiers.
+     *
+     * @param translator the string translator for variable substitution
+     * @return the new SpigotItem
+     */
+    public SpigotItem create(UnaryOperator<String> translator) {
+        return create(null, translator);
+    }
+}
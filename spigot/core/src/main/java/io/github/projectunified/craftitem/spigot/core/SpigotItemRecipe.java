@@ -0,0 +1,72 @@
+package io.github.projectunified.craftitem.spigot.core;
+
+import io.github.projectunified.craftitem.core.Item;
+import io.github.projectunified.craftitem.core.ItemModifier;
+import io.github.projectunified.craftitem.core.ItemRecipe;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Spigot-specific recipe that applies all metadata edits in a single round trip.
+ *
+ * <p>While the modifiers are applied, every {@link SpigotItem#editMeta(java.util.function.Consumer)} call
+ * shares one ItemMeta instance, which is written back to the ItemStack once at the end.
+ * Direct ItemStack edits (e.g. material changes) still see the metadata written so far.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * SpigotItemRecipe recipe = new SpigotItemRecipe(
+ *     new MaterialModifier(Material.DIAMOND_SWORD),
+ *     new NameModifier("Sword of ${owner}"),
+ *     new LoreModifier(List.of("Level: ${level}")),
+ *     new ItemFlagModifier(List.of("all"))
+ * );
+ * SpigotItem item = new SpigotItem();
+ * recipe.modify(item, translator);
+ * }</pre>
+ */
+public class SpigotItemRecipe extends ItemRecipe implements SpigotItemModifier {
+    /**
+     * Creates a new SpigotItemRecipe with the specified modifiers.
+     *
+     * @param modifiers the modifiers to apply, in order
+     */
+    public SpigotItemRecipe(List<? extends ItemModifier> modifiers) {
+        super(modifiers);
+    }
+
+    /**
+     * Creates a new SpigotItemRecipe with the specified modifiers.
+     *
+     * @param modifiers the modifiers to apply, in order
+     */
+    public SpigotItemRecipe(ItemModifier... modifiers) {
+        super(modifiers);
+    }
+
+    /**
+     * Applies all modifiers to the SpigotItem, sharing a single ItemMeta between them.
+     *
+     * @param item       the SpigotItem to modify
+     * @param translator the string translator for variable substitution
+     */
+    @Override
+    public void modify(SpigotItem item, UnaryOperator<String> translator) {
+        item.beginMetaBatch();
+        try {
+            super.modify(item, translator);
+        } finally {
+            item.endMetaBatch();
+        }
+    }
+
+    @Override
+    public void modify(Item item, UnaryOperator<String> translator) {
+        if (item instanceof SpigotItem) {
+            modify((SpigotItem) item, translator);
+        } else {
+            super.modify(item, translator);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.projectunified.craftitem.spigot.modifier;
 
+import io.github.projectunified.craftitem.core.TranslatableString;
 import io.github.projectunified.craftitem.spigot.core.SpigotItem;
 import io.github.projectunified.craftitem.spigot.core.SpigotItemModifier;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.UnaryOperator;
 
 /**
@@ -22,7 +25,8 @@ import java.util.function.UnaryOperator;
  * }</pre>
  */
 public class DurabilityModifier implements SpigotItemModifier {
-    private final String durability;
+    private final TranslatableString durability;
+    private final boolean constant;
 
     /**
      * Creates a new DurabilityModifier with the specified durability value.
@@ -30,7 +34,8 @@ public class DurabilityModifier implements SpigotItemModifier {
      * @param durability the durability value (0 = full durability)
      */
     public DurabilityModifier(short durability) {
-        this.durability = Short.toString(durability);
+        this.durability = new TranslatableString(Short.toString(durability));
+        this.constant = true;
     }
 
     /**
@@ -40,19 +45,20 @@ public class DurabilityModifier implements SpigotItemModifier {
      * @param durability the durability value as a string
      */
     public DurabilityModifier(String durability) {
-        this.durability = durability;
+        this.durability = new TranslatableString(durability);
+        this.constant = false;
     }
 
     /**
      * Applies the translated durability to the item.
-     * Invalid durability values are silently ignored.
+     * Invalid durability values are silently ignored, and short values are applied without translation.
      *
      * @param item       the SpigotItem to modify
      * @param translator the string translator for variable substitution
      */
     @Override
     public void modify(SpigotItem item, UnaryOperator<String> translator) {
-        String durability = translator.apply(this.durability);
+        String durability = constant ? this.durability.getValue() : this.durability.translate(translator);
         short d;
         try {
             d = Short.parseShort(durability);
@@ -61,4 +67,9 @@ public class DurabilityModifier implements SpigotItemModifier {
         }
         item.edit(itemStack -> itemStack.setDurability(d));
     }
+
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return constant ? Collections.emptyList() : Collections.singletonList(durability.getValue());
+    }
 }
@@ -42,6 +42,7 @@ public class EnchantmentModifier implements SpigotItemModifier {
     }
 
     private final Function<UnaryOperator<String>, Map<Enchantment, Integer>> enchantments;
+    private final Collection<String> translatableValues;
 
     /**
      * Creates an EnchantmentModifier from a list of enchantment strings
@@ -51,6 +52,7 @@ public class EnchantmentModifier implements SpigotItemModifier {
      */
     public EnchantmentModifier(List<String> enchantments, char... delimiters) {
         this.enchantments = translator -> getParsed(enchantments, delimiters, translator);
+        this.translatableValues = enchantments;
     }
 
     /**
@@ -70,6 +72,7 @@ public class EnchantmentModifier implements SpigotItemModifier {
      */
     public EnchantmentModifier(Map<Enchantment, Integer> enchantments) {
         this.enchantments = translator -> enchantments;
+        this.translatableValues = Collections.emptyList();
     }
 
     /**
@@ -148,4 +151,9 @@ public class EnchantmentModifier implements SpigotItemModifier {
             }
         });
     }
+
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return translatableValues;
+    }
 }
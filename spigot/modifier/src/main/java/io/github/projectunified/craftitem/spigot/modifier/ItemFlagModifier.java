@@ -5,8 +5,8 @@ import io.github.projectunified.craftitem.spigot.core.SpigotItemModifier;
 import org.bukkit.inventory.ItemFlag;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 
 /**
  * Spigot modifier that adds item flags to hide or show specific item attributes.
@@ -32,7 +32,8 @@ import java.util.stream.Collectors;
  * }</pre>
  */
 public class ItemFlagModifier implements SpigotItemModifier {
-    private final List<String> flags;
+    private final Function<UnaryOperator<String>, Set<ItemFlag>> flags;
+    private final Collection<String> translatableValues;
 
     /**
      * Creates a new ItemFlagModifier with the specified flag names.
@@ -41,7 +42,8 @@ public class ItemFlagModifier implements SpigotItemModifier {
      * @param flags the list of item flag names (or "all")
      */
     public ItemFlagModifier(List<String> flags) {
-        this.flags = flags;
+        this.flags = translator -> getParsed(flags, translator);
+        this.translatableValues = flags;
     }
 
     /**
@@ -50,19 +52,23 @@ public class ItemFlagModifier implements SpigotItemModifier {
      * @param flags the collection of ItemFlag enums
      */
     public ItemFlagModifier(Collection<ItemFlag> flags) {
-        this.flags = flags.stream().map(Enum::name).collect(Collectors.toList());
+        Set<ItemFlag> flagSet = EnumSet.noneOf(ItemFlag.class);
+        flagSet.addAll(flags);
+        this.flags = translator -> flagSet;
+        this.translatableValues = Collections.emptyList();
     }
 
     /**
      * Parses flag strings into ItemFlag enum values.
      * Handles the special "all" value to apply all available flags.
      *
-     * @param translator the string translator for variable substitution
+     * @param flagStrings the list of item flag names
+     * @param translator  the string translator for variable substitution
      * @return set of parsed ItemFlags
      */
-    private Set<ItemFlag> getParsed(UnaryOperator<String> translator) {
+    private static Set<ItemFlag> getParsed(List<String> flagStrings, UnaryOperator<String> translator) {
         Set<ItemFlag> flags = new HashSet<>();
-        for (String string : this.flags) {
+        for (String string : flagStrings) {
             string = translator.apply(string);
             if (string.equalsIgnoreCase("all")) {
                 Collections.addAll(flags, ItemFlag.values());
@@ -85,7 +91,7 @@ public class ItemFlagModifier implements SpigotItemModifier {
      */
     @Override
     public void modify(SpigotItem item, UnaryOperator<String> translator) {
-        Set<ItemFlag> parsed = getParsed(translator);
+        Set<ItemFlag> parsed = flags.apply(translator);
         if (parsed.isEmpty()) return;
         item.editMeta(itemMeta -> {
             for (ItemFlag flag : parsed) {
@@ -93,4 +99,9 @@ public class ItemFlagModifier implements SpigotItemModifier {
             }
         });
     }
+
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return translatableValues;
+    }
 }
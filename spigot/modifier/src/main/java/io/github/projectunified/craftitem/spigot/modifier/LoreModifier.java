@@ -1,12 +1,14 @@
 package io.github.projectunified.craftitem.spigot.modifier;
 
+import io.github.projectunified.craftitem.core.TranslatableString;
 import io.github.projectunified.craftitem.spigot.core.SpigotItem;
 import io.github.projectunified.craftitem.spigot.core.SpigotItemModifier;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Spigot modifier that sets item lore (description lines).
@@ -30,6 +32,7 @@ import java.util.stream.Stream;
  */
 public class LoreModifier implements SpigotItemModifier {
     private final List<String> lore;
+    private final List<TranslatableString> translatableLore;
     private UnaryOperator<String> transformer;
 
     /**
@@ -40,6 +43,10 @@ public class LoreModifier implements SpigotItemModifier {
      */
     public LoreModifier(List<String> lore) {
         this.lore = lore;
+        this.translatableLore = new ArrayList<>(lore.size());
+        for (String line : lore) {
+            this.translatableLore.add(new TranslatableString(line));
+        }
     }
 
     /**
@@ -50,14 +57,22 @@ public class LoreModifier implements SpigotItemModifier {
      */
     @Override
     public void modify(SpigotItem item, UnaryOperator<String> translator) {
-        Stream<String> loreStream = this.lore.stream().map(translator);
-        if (transformer != null) {
-            loreStream = loreStream.map(transformer);
+        List<String> lore = new ArrayList<>(translatableLore.size());
+        for (TranslatableString line : translatableLore) {
+            String translated = line.translate(translator);
+            if (transformer != null) {
+                translated = transformer.apply(translated);
+            }
+            lore.add(translated);
         }
-        List<String> lore = loreStream.collect(Collectors.toList());
         item.editMeta(itemMeta -> itemMeta.setLore(lore));
     }
 
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return Collections.unmodifiableList(lore);
+    }
+
     /**
      * Set the function to transform each line of the lore
      *
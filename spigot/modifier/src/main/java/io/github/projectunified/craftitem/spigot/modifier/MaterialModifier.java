@@ -4,6 +4,8 @@ import io.github.projectunified.craftitem.spigot.core.SpigotItem;
 import io.github.projectunified.craftitem.spigot.core.SpigotItemModifier;
 import org.bukkit.Material;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +49,7 @@ public class MaterialModifier implements SpigotItemModifier {
     }
 
     private final Function<UnaryOperator<String>, MaterialData> material;
+    private final Collection<String> translatableValues;
 
     /**
      * Creates a MaterialModifier with the specified Material enum.
@@ -54,7 +57,9 @@ public class MaterialModifier implements SpigotItemModifier {
      * @param material the Material to apply
      */
     public MaterialModifier(Material material) {
-        this.material = translator -> new MaterialData(material, null);
+        MaterialData materialData = new MaterialData(material, null);
+        this.material = translator -> materialData;
+        this.translatableValues = Collections.emptyList();
     }
 
     /**
@@ -64,7 +69,9 @@ public class MaterialModifier implements SpigotItemModifier {
      * @param data     the data value (durability)
      */
     public MaterialModifier(Material material, short data) {
-        this.material = translator -> new MaterialData(material, data);
+        MaterialData materialData = new MaterialData(material, data);
+        this.material = translator -> materialData;
+        this.translatableValues = Collections.emptyList();
     }
 
     /**
@@ -75,6 +82,7 @@ public class MaterialModifier implements SpigotItemModifier {
      */
     public MaterialModifier(String material) {
         this.material = translator -> getMaterialData(translator.apply(material));
+        this.translatableValues = Collections.singletonList(material);
     }
 
     /**
@@ -93,6 +101,7 @@ public class MaterialModifier implements SpigotItemModifier {
             }
             return null;
         };
+        this.translatableValues = materials;
     }
 
     /**
@@ -162,6 +171,11 @@ public class MaterialModifier implements SpigotItemModifier {
         });
     }
 
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return translatableValues;
+    }
+
     /**
      * Internal data class for storing material and optional data value.
      */
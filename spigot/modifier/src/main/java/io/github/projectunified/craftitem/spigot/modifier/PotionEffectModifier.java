@@ -48,6 +48,7 @@ import java.util.stream.Stream;
  */
 public class PotionEffectModifier implements SpigotItemModifier {
     private final Function<UnaryOperator<String>, Collection<PotionEffect>> potionEffect;
+    private final Collection<String> translatableValues;
 
     /**
      * Creates a PotionEffectModifier with a single PotionEffect.
@@ -55,7 +56,9 @@ public class PotionEffectModifier implements SpigotItemModifier {
      * @param potionEffect the potion effect to apply
      */
     public PotionEffectModifier(PotionEffect potionEffect) {
-        this.potionEffect = translator -> Collections.singletonList(potionEffect);
+        Collection<PotionEffect> potionEffects = Collections.singletonList(potionEffect);
+        this.potionEffect = translator -> potionEffects;
+        this.translatableValues = Collections.emptyList();
     }
 
     /**
@@ -67,6 +70,7 @@ public class PotionEffectModifier implements SpigotItemModifier {
      */
     public PotionEffectModifier(String potionEffect) {
         this.potionEffect = translator -> pastePotionEffect(translator.apply(potionEffect)).map(Collections::singletonList).orElse(Collections.emptyList());
+        this.translatableValues = Collections.singletonList(potionEffect);
     }
 
     /**
@@ -76,6 +80,7 @@ public class PotionEffectModifier implements SpigotItemModifier {
      */
     public PotionEffectModifier(Collection<PotionEffect> potionEffects) {
         this.potionEffect = translator -> potionEffects;
+        this.translatableValues = Collections.emptyList();
     }
 
     /**
@@ -91,6 +96,7 @@ public class PotionEffectModifier implements SpigotItemModifier {
                 .map(PotionEffectModifier::pastePotionEffect)
                 .flatMap(optional -> optional.map(Stream::of).orElseGet(Stream::empty))
                 .collect(Collectors.toList());
+        this.translatableValues = potionEffects;
     }
 
     /**
@@ -147,4 +153,9 @@ public class PotionEffectModifier implements SpigotItemModifier {
             }
         });
     }
+
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return translatableValues;
+    }
 }
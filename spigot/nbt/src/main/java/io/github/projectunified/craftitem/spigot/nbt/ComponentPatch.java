@@ -0,0 +1,56 @@
+package io.github.projectunified.craftitem.spigot.nbt;
+
+import io.papermc.paper.datacomponent.DataComponentType;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+
+/**
+ * An immutable list of data component operations, computed once from a parsed item by
+ * {@link PaperNBTApplier#createPatch(ItemStack)} and applied to every item built with the same NBT data.
+ *
+ * <p>Only the components that differ from the default item of the material are set or unset,
+ * so the patch must be applied to items of the same material as the parsed item.
+ */
+@SuppressWarnings("UnstableApiUsage")
+final class ComponentPatch {
+    private final DataComponentType.Valued<Object>[] valuedTypes;
+    private final Object[] values;
+    private final DataComponentType.NonValued[] nonValuedTypes;
+    private final DataComponentType[] unsetTypes;
+
+    @SuppressWarnings("unchecked")
+    ComponentPatch(List<DataComponentType.Valued<Object>> valuedTypes, List<Object> values,
+                   List<DataComponentType.NonValued> nonValuedTypes, List<DataComponentType> unsetTypes) {
+        this.valuedTypes = valuedTypes.toArray(new DataComponentType.Valued[0]);
+        this.values = values.toArray();
+        this.nonValuedTypes = nonValuedTypes.toArray(new DataComponentType.NonValued[0]);
+        this.unsetTypes = unsetTypes.toArray(new DataComponentType[0]);
+    }
+
+    /**
+     * Applies the operations to the item.
+     *
+     * @param itemStack the item to modify
+     */
+    void applyTo(ItemStack itemStack) {
+        for (int i = 0; i < valuedTypes.length; i++) {
+            itemStack.setData(valuedTypes[i], values[i]);
+        }
+        for (DataComponentType.NonValued type : nonValuedTypes) {
+            itemStack.setData(type);
+        }
+        for (DataComponentType type : unsetTypes) {
+            itemStack.unsetData(type);
+        }
+    }
+
+    /**
+     * Checks if the patch does not have any operation.
+     *
+     * @return true if applying the patch does not change the item
+     */
+    boolean isEmpty() {
+        return valuedTypes.length == 0 && nonValuedTypes.length == 0 && unsetTypes.length == 0;
+    }
+}
@@ -0,0 +1,247 @@
+package io.github.projectunified.craftitem.spigot.nbt;
+
+import io.github.projectunified.craftitem.nbt.SNBTConverter;
+import io.papermc.paper.datacomponent.DataComponentType;
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.datacomponent.item.CustomModelData;
+import io.papermc.paper.datacomponent.item.ItemEnchantments;
+import io.papermc.paper.datacomponent.item.ItemLore;
+import net.kyori.adventure.text.Component;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.enchantments.Enchantment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the common entries of normalized data component maps directly to Paper's data component values,
+ * so they can be set on items without converting them to SNBT and parsing them on the server.
+ *
+ * <p>Supported components: custom_name, item_name, lore, custom_model_data, enchantments, max_stack_size,
+ * max_damage, damage, repair_cost and enchantment_glint_override.
+ * Text values must be plain strings, which are literal text as in the SNBT format of Minecraft 1.21.5+.
+ * Entries of other components, or with values in other shapes, are left for the SNBT path.
+ */
+@SuppressWarnings("UnstableApiUsage")
+final class DirectComponentMapper {
+    private static final String MINECRAFT_NAMESPACE = "minecraft:";
+
+    private DirectComponentMapper() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Splits the normalized components into a patch of the mapped components and the SNBT string of the remaining ones.
+     *
+     * @param components the normalized data component map
+     * @return the mapping
+     */
+    @SuppressWarnings("unchecked")
+    static Mapping map(Map<String, Object> components) {
+        List<DataComponentType.Valued<Object>> types = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        Map<String, Object> remaining = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : components.entrySet()) {
+            String key = entry.getKey();
+            String id = key.startsWith(MINECRAFT_NAMESPACE) ? key.substring(MINECRAFT_NAMESPACE.length()) : key;
+            DataComponentType.Valued<?> type;
+            Object value;
+            switch (id) {
+                case "custom_name":
+                    type = DataComponentTypes.CUSTOM_NAME;
+                    value = toText(entry.getValue());
+                    break;
+                case "item_name":
+                    type = DataComponentTypes.ITEM_NAME;
+                    value = toText(entry.getValue());
+                    break;
+                case "lore":
+                    type = DataComponentTypes.LORE;
+                    value = toLore(entry.getValue());
+                    break;
+                case "custom_model_data":
+                    type = DataComponentTypes.CUSTOM_MODEL_DATA;
+                    value = toCustomModelData(entry.getValue());
+                    break;
+                case "enchantments":
+                    type = DataComponentTypes.ENCHANTMENTS;
+                    value = toEnchantments(entry.getValue());
+                    break;
+                case "max_stack_size":
+                    type = DataComponentTypes.MAX_STACK_SIZE;
+                    value = toInt(entry.getValue(), 1, 99);
+                    break;
+                case "max_damage":
+                    type = DataComponentTypes.MAX_DAMAGE;
+                    value = toInt(entry.getValue(), 1, Integer.MAX_VALUE);
+                    break;
+                case "damage":
+                    type = DataComponentTypes.DAMAGE;
+                    value = toInt(entry.getValue(), 0, Integer.MAX_VALUE);
+                    break;
+                case "repair_cost":
+                    type = DataComponentTypes.REPAIR_COST;
+                    value = toInt(entry.getValue(), 0, Integer.MAX_VALUE);
+                    break;
+                case "enchantment_glint_override":
+                    type = DataComponentTypes.ENCHANTMENT_GLINT_OVERRIDE;
+                    value = toBoolean(entry.getValue());
+                    break;
+                default:
+                    type = null;
+                    value = null;
+                    break;
+            }
+            if (type == null || value == null) {
+                remaining.put(key, entry.getValue());
+            } else {
+                types.add((DataComponentType.Valued<Object>) type);
+                values.add(value);
+            }
+        }
+        ComponentPatch patch = new ComponentPatch(types, values, Collections.emptyList(), Collections.emptyList());
+        return new Mapping(patch, remaining.isEmpty() ? null : SNBTConverter.convert(remaining, true));
+    }
+
+    /**
+     * Checks if the string would be written as a number in SNBT, in which case it is not a string tag.
+     */
+    private static boolean looksLikeNumber(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > ' ') {
+                return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+            }
+        }
+        return false;
+    }
+
+    private static Component toText(Object value) {
+        if (!(value instanceof String) || looksLikeNumber((String) value)) {
+            return null;
+        }
+        return Component.text((String) value);
+    }
+
+    private static ItemLore toLore(Object value) {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<?> list = (List<?>) value;
+        List<Component> lines = new ArrayList<>(list.size());
+        for (Object line : list) {
+            Component text = toText(line);
+            if (text == null) {
+                return null;
+            }
+            lines.add(text);
+        }
+        return ItemLore.lore(lines);
+    }
+
+    private static CustomModelData toCustomModelData(Object value) {
+        if (!(value instanceof Map)) {
+            return null;
+        }
+        CustomModelData.Builder builder = CustomModelData.customModelData();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            if (!(entry.getValue() instanceof List)) {
+                return null;
+            }
+            List<?> list = (List<?>) entry.getValue();
+            switch (String.valueOf(entry.getKey())) {
+                case "floats":
+                    for (Object element : list) {
+                        if (!(element instanceof Number)) return null;
+                        builder.addFloat(((Number) element).floatValue());
+                    }
+                    break;
+                case "flags":
+                    for (Object element : list) {
+                        Boolean flag = toBoolean(element);
+                        if (flag == null) return null;
+                        builder.addFlag(flag);
+                    }
+                    break;
+                case "strings":
+                    for (Object element : list) {
+                        if (!(element instanceof String) || looksLikeNumber((String) element)) return null;
+                        builder.addString((String) element);
+                    }
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static ItemEnchantments toEnchantments(Object value) {
+        if (!(value instanceof Map)) {
+            return null;
+        }
+        Map<Enchantment, Integer> enchantments = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            NamespacedKey key = NamespacedKey.fromString(String.valueOf(entry.getKey()));
+            Enchantment enchantment = key == null ? null : Registry.ENCHANTMENT.get(key);
+            Integer level = toInt(entry.getValue(), 1, 255);
+            if (enchantment == null || level == null) {
+                return null;
+            }
+            enchantments.put(enchantment, level);
+        }
+        return ItemEnchantments.itemEnchantments(enchantments);
+    }
+
+    /**
+     * Converts the value to an int within the range, leaving values outside it for the server to report.
+     */
+    private static Integer toInt(Object value, int min, int max) {
+        long longValue;
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof Long) {
+            longValue = ((Number) value).longValue();
+        } else if (value instanceof String) {
+            String trimmed = ((String) value).trim();
+            int start = trimmed.startsWith("-") || trimmed.startsWith("+") ? 1 : 0;
+            if (trimmed.length() <= start || trimmed.length() - start > 9) {
+                return null;
+            }
+            for (int i = start; i < trimmed.length(); i++) {
+                char c = trimmed.charAt(i);
+                if (c < '0' || c > '9') return null;
+            }
+            longValue = Integer.parseInt(trimmed);
+        } else {
+            return null;
+        }
+        return longValue >= min && longValue <= max ? (int) longValue : null;
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Byte) {
+            return (Byte) value != 0;
+        }
+        return null;
+    }
+
+    /**
+     * Internal data class for storing the mapped components and the remaining ones.
+     */
+    static final class Mapping {
+        final ComponentPatch patch;
+        final String remainingNbtString;
+
+        private Mapping(ComponentPatch patch, String remainingNbtString) {
+            this.patch = patch;
+            this.remainingNbtString = remainingNbtString;
+        }
+    }
+}
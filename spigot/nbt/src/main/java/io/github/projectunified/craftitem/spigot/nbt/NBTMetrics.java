@@ -0,0 +1,125 @@
+package io.github.projectunified.craftitem.spigot.nbt;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of how {@link NBTModifier} applies NBT data to items, for exporting to a metrics system.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * NBTMetrics metrics = NBTModifier.getMetrics();
+ * long merged = metrics.getMergeCount();
+ * long failed = metrics.getParseFailureCount();
+ * }</pre>
+ */
+public final class NBTMetrics {
+    final LongAdder parseCount = new LongAdder();
+    final LongAdder parseFailureCount = new LongAdder();
+    final LongAdder failureCacheHitCount = new LongAdder();
+    final LongAdder mergeCount = new LongAdder();
+    final LongAdder mergeFailureCount = new LongAdder();
+    final LongAdder replaceCount = new LongAdder();
+    final LongAdder legacyCount = new LongAdder();
+    final LongAdder directCount = new LongAdder();
+    final LongAdder directFailureCount = new LongAdder();
+
+    NBTMetrics() {
+    }
+
+    /**
+     * Gets the number of SNBT strings parsed by the server in data component format, excluding the cached ones.
+     *
+     * @return the number of parsed strings
+     */
+    public long getParseCount() {
+        return parseCount.sum();
+    }
+
+    /**
+     * Gets the number of SNBT strings the server failed to parse or apply.
+     * Each failing string is counted once, until it is evicted from the failure cache.
+     *
+     * @return the number of failures
+     */
+    public long getParseFailureCount() {
+        return parseFailureCount.sum();
+    }
+
+    /**
+     * Gets the number of applications skipped because their SNBT string is known to fail.
+     *
+     * @return the number of skipped applications
+     */
+    public long getFailureCacheHitCount() {
+        return failureCacheHitCount.sum();
+    }
+
+    /**
+     * Gets the number of applications that merged the data components into the item (Paper 1.21+).
+     *
+     * @return the number of merges
+     */
+    public long getMergeCount() {
+        return mergeCount.sum();
+    }
+
+    /**
+     * Gets the number of merges that failed and fell back to replacing the item.
+     *
+     * @return the number of failed merges
+     */
+    public long getMergeFailureCount() {
+        return mergeFailureCount.sum();
+    }
+
+    /**
+     * Gets the number of applications in data component format that replaced the item with the parsed item.
+     *
+     * @return the number of replacements
+     */
+    public long getReplaceCount() {
+        return replaceCount.sum();
+    }
+
+    /**
+     * Gets the number of applications in legacy NBT format.
+     *
+     * @return the number of legacy applications
+     */
+    public long getLegacyCount() {
+        return legacyCount.sum();
+    }
+
+    /**
+     * Gets the number of applications that set the common data components directly (Paper 1.21+).
+     *
+     * @return the number of direct applications
+     */
+    public long getDirectCount() {
+        return directCount.sum();
+    }
+
+    /**
+     * Gets the number of direct applications that failed and fell back to the SNBT path.
+     *
+     * @return the number of failed direct applications
+     */
+    public long getDirectFailureCount() {
+        return directFailureCount.sum();
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+        parseCount.reset();
+        parseFailureCount.reset();
+        failureCacheHitCount.reset();
+        mergeCount.reset();
+        mergeFailureCount.reset();
+        replaceCount.reset();
+        legacyCount.reset();
+        directCount.reset();
+        directFailureCount.reset();
+    }
+}
@@ -1,14 +1,19 @@
 package io.github.projectunified.craftitem.spigot.nbt;
 
+import io.github.projectunified.craftitem.core.BoundedCache;
 import io.github.projectunified.craftitem.nbt.NBTMapNormalizer;
+import io.github.projectunified.craftitem.nbt.NormalizationPlan;
 import io.github.projectunified.craftitem.nbt.SNBTConverter;
 import io.github.projectunified.craftitem.spigot.core.SpigotItem;
 import io.github.projectunified.craftitem.spigot.core.SpigotItemModifier;
 import org.bukkit.Bukkit;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.UnaryOperator;
 
 /**
@@ -30,20 +35,160 @@ import java.util.function.UnaryOperator;
  * ItemModifier modifier = new NBTModifier(nbtData, false);
  * modifier.modify(spigotItem, s -> s);
  * }</pre>
+ *
+ * <p>Map-based NBT data is compiled once when the modifier is created, so invalid forced-value maps are reported
+ * early and the parts that do not depend on the translator are not normalized again on every build.
+ *
+ * <p>In data component format, the items parsed from the SNBT strings are kept in a bounded cache,
+ * so repeated builds with the same translated NBT data skip the server's SNBT parser.
+ * On Paper, the components that differ from the default item are computed once per parsed item
+ * and applied directly on later builds.
+ * The size of the cache can be changed with {@link #setCacheSize(int)}.
+ *
+ * <p>The SNBT strings that the server fails to parse or apply are kept in a bounded failure cache of the same size,
+ * so they are skipped on later builds instead of failing again. The failures can be observed with
+ * {@link #setFailureListener(BiConsumer)}, and the application paths are counted in {@link #getMetrics()}.
+ *
+ * <p>On Paper 1.21.5+, a modifier created with {@code useDirectComponents} sets the common data components
+ * (custom_name, item_name, lore, custom_model_data, enchantments, max_stack_size, max_damage, damage,
+ * repair_cost and enchantment_glint_override) directly on the items, without the SNBT round-trip.
+ * Text values given as plain strings are literal text, and the other components still go through SNBT.
  */
 public class NBTModifier implements SpigotItemModifier {
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    private static final BoundedCache<String, ParsedItem> REFERENCE_CACHE = new BoundedCache<>(DEFAULT_CACHE_SIZE);
+    private static final BoundedCache<String, Throwable> FAILURE_CACHE = new BoundedCache<>(DEFAULT_CACHE_SIZE);
+    private static final BoundedCache<Map<String, Object>, RuntimeException> MAPPING_FAILURE_CACHE = new BoundedCache<>(DEFAULT_CACHE_SIZE);
+    private static final NBTMetrics METRICS = new NBTMetrics();
+    private static volatile BiConsumer<String, Throwable> failureListener;
+    private static volatile boolean directComponentsAvailable = true;
+
     private final Object value;
     private final boolean useDataComponent;
+    private final boolean useDirectComponents;
+    private final NormalizationPlan plan;
+    private final String constantNbtString;
+    private volatile DirectComponentMapper.Mapping constantMapping;
 
     /**
      * Creates a new NBTModifier with the specified NBT data.
      *
      * @param value            the NBT data (typically a Map)
      * @param useDataComponent whether to use data component format (1.20.5+) or legacy NBT
+     * @throws IllegalArgumentException if the map contains an invalid forced-value map
      */
     public NBTModifier(Object value, boolean useDataComponent) {
+        this(value, useDataComponent, false);
+    }
+
+    /**
+     * Creates a new NBTModifier with the specified NBT data.
+     *
+     * @param value               the NBT data (typically a Map)
+     * @param useDataComponent    whether to use data component format (1.20.5+) or legacy NBT
+     * @param useDirectComponents whether to set the common data components of map-based data directly on Paper 1.21.5+,
+     *                            instead of converting them to SNBT. Ignored in legacy NBT format and on other servers.
+     * @throws IllegalArgumentException if the map contains an invalid forced-value map
+     */
+    public NBTModifier(Object value, boolean useDataComponent, boolean useDirectComponents) {
         this.value = value;
         this.useDataComponent = useDataComponent;
+        this.useDirectComponents = useDirectComponents && useDataComponent && value instanceof Map && PaperNBTApplier.DIRECT_SUPPORTED;
+        if (value instanceof Map) {
+            this.plan = NBTMapNormalizer.compile(value);
+            this.constantNbtString = plan.isConstant() ? SNBTConverter.convert(plan.normalize(), useDataComponent) : null;
+        } else {
+            this.plan = null;
+            this.constantNbtString = null;
+        }
+    }
+
+    /**
+     * Gets the maximum number of parsed items kept in the cache.
+     *
+     * @return the maximum number of parsed items
+     */
+    public static int getCacheSize() {
+        return REFERENCE_CACHE.getMaxSize();
+    }
+
+    /**
+     * Sets the maximum number of parsed items kept in the cache, and of failing SNBT strings and component maps kept in the failure caches.
+     * The least recently used entries are evicted when a cache is full.
+     *
+     * @param size the maximum number of entries, or 0 to disable the caches
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public static void setCacheSize(int size) {
+        REFERENCE_CACHE.setMaxSize(size);
+        FAILURE_CACHE.setMaxSize(size);
+        MAPPING_FAILURE_CACHE.setMaxSize(size);
+    }
+
+    /**
+     * Removes all parsed items from the cache, and all failing SNBT strings and component maps from the failure caches.
+     */
+    public static void clearCache() {
+        REFERENCE_CACHE.clear();
+        FAILURE_CACHE.clear();
+        MAPPING_FAILURE_CACHE.clear();
+    }
+
+    /**
+     * Gets the counters of how the NBT data is applied to items.
+     *
+     * @return the metrics
+     */
+    public static NBTMetrics getMetrics() {
+        return METRICS;
+    }
+
+    /**
+     * Sets the listener called when the server fails to parse or apply an SNBT string.
+     * It is called once per failing string, until the string is evicted from the failure cache.
+     *
+     * @param listener the listener accepting the SNBT string and the error, or null to ignore the failures
+     */
+    public static void setFailureListener(BiConsumer<String, Throwable> listener) {
+        failureListener = listener;
+    }
+
+    /**
+     * Checks if the server supports merging every data component type into items (Paper 1.21+).
+     * The server is probed once on the first call.
+     * If it does not, items with components that cannot be merged are replaced by the parsed items instead.
+     *
+     * @return true if every data component type can be merged
+     */
+    public static boolean isComponentMergeSupported() {
+        return PaperNBTApplier.SUPPORTED && PaperNBTApplier.isAllComponentTypesSupported();
+    }
+
+    /**
+     * Gets the item parsed from the SNBT string in data component format, from the cache if possible.
+     * The returned item is shared and must not be modified.
+     *
+     * @param nbtString the SNBT string, including the material key
+     * @return the parsed item
+     */
+    private static ParsedItem getReferenceItem(String nbtString) {
+        ParsedItem cached = REFERENCE_CACHE.getIfPresent(nbtString);
+        if (cached != null) {
+            return cached;
+        }
+        ItemStack itemStack = Bukkit.getItemFactory().createItemStack(nbtString);
+        METRICS.parseCount.increment();
+        ComponentPatch patch = null;
+        try {
+            if (PaperNBTApplier.SUPPORTED && PaperNBTApplier.hasAllSupportedComponentTypes(itemStack)) {
+                patch = PaperNBTApplier.createPatch(itemStack);
+            }
+        } catch (Throwable ignored) {
+            // The API for Data Component is experimental. Silently ignores error if it's no longer supported in new versions.
+        }
+        ParsedItem parsed = new ParsedItem(itemStack, patch);
+        REFERENCE_CACHE.put(nbtString, parsed);
+        return parsed;
     }
 
     /**
@@ -55,24 +200,125 @@ public class NBTModifier implements SpigotItemModifier {
      */
     @Override
     public void modify(SpigotItem item, UnaryOperator<String> translator) {
-        String nbtString;
-        if (value instanceof Map) {
-            Object normalized = NBTMapNormalizer.normalize(value, translator);
-            nbtString = SNBTConverter.convert(normalized, useDataComponent);
-        } else {
-            nbtString = translator.apply(Objects.toString(value));
+        if (useDirectComponents && directComponentsAvailable) {
+            DirectComponentMapper.Mapping mapping = getDirectMapping(translator);
+            if (mapping != null && applyDirect(item, mapping)) {
+                return;
+            }
         }
+
+        StringBuilder builder = new StringBuilder();
         if (useDataComponent) {
-            String materialName = item.getItemStack().getType().getKey().toString();
-            applyNBT(item, materialName + nbtString, true);
+            builder.append(item.getItemStack().getType().getKey().toString());
+        }
+        if (constantNbtString != null) {
+            builder.append(constantNbtString);
+        } else if (plan != null) {
+            SNBTConverter.convert(plan.normalize(translator), useDataComponent, builder);
         } else {
-            applyNBT(item, nbtString, false);
+            builder.append(translator.apply(Objects.toString(value)));
+        }
+        applyNBT(item, builder.toString(), useDataComponent);
+    }
+
+    /**
+     * Maps the normalized NBT data to data component values, reusing the mapping of constant data.
+     * The data that failed to be mapped is kept in a failure cache, and applied through SNBT without mapping it again.
+     *
+     * @param translator the string translator for variable substitution
+     * @return the mapping, or null if the data cannot be mapped and should be applied through SNBT instead
+     */
+    @SuppressWarnings("unchecked")
+    private DirectComponentMapper.Mapping getDirectMapping(UnaryOperator<String> translator) {
+        DirectComponentMapper.Mapping mapping = constantMapping;
+        if (mapping != null) {
+            return mapping;
         }
+        Object normalized = plan.normalize(translator);
+        if (!(normalized instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> components = (Map<String, Object>) normalized;
+        if (MAPPING_FAILURE_CACHE.getIfPresent(components) != null) {
+            return null;
+        }
+        try {
+            mapping = DirectComponentMapper.map(components);
+        } catch (LinkageError e) {
+            // The API for Data Component is experimental. Use the SNBT path if it's no longer supported in new versions.
+            directComponentsAvailable = false;
+            return null;
+        } catch (RuntimeException e) {
+            METRICS.directFailureCount.increment();
+            MAPPING_FAILURE_CACHE.put(components, e);
+            return null;
+        }
+        if (plan.isConstant()) {
+            constantMapping = mapping;
+        }
+        return mapping;
+    }
+
+    /**
+     * Sets the mapped components directly on the item, together with the remaining components parsed from SNBT.
+     * The remaining SNBT string is parsed before the item is modified, so either both parts are applied or none.
+     *
+     * @param item    the SpigotItem to modify
+     * @param mapping the mapping of the normalized NBT data
+     * @return true if the item is handled, or false if the item should be modified through SNBT instead
+     */
+    private boolean applyDirect(SpigotItem item, DirectComponentMapper.Mapping mapping) {
+        ParsedItem remaining = null;
+        if (mapping.remainingNbtString != null) {
+            String nbtString = item.getItemStack().getType().getKey() + mapping.remainingNbtString;
+            if (FAILURE_CACHE.getIfPresent(nbtString) != null) {
+                METRICS.failureCacheHitCount.increment();
+                return true;
+            }
+            try {
+                remaining = getReferenceItem(nbtString);
+            } catch (Exception e) {
+                reportFailure(nbtString, nbtString, e);
+                return true;
+            }
+        }
+        try {
+            if (remaining != null && remaining.patch == null) {
+                item.setItemStack(remaining.itemStack);
+            }
+            ComponentPatch remainingPatch = remaining != null ? remaining.patch : null;
+            item.edit(itemStack -> {
+                if (remainingPatch != null) {
+                    remainingPatch.applyTo(itemStack);
+                }
+                mapping.patch.applyTo(itemStack);
+            });
+            METRICS.directCount.increment();
+            return true;
+        } catch (Throwable e) {
+            // The API for Data Component is experimental. The SNBT path sets every component again.
+            METRICS.directFailureCount.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Gets the raw values passed to the translator.
+     *
+     * @return the raw values
+     */
+    @Override
+    public Collection<String> getTranslatableValues() {
+        if (plan == null) {
+            return Collections.singletonList(Objects.toString(value));
+        }
+        return plan.getTranslatableValues();
     }
 
     /**
      * Applies the SNBT string to the item using Bukkit's API.
-     * Silently ignores errors if NBT application fails.
+     * Skips the strings that failed before, and reports new failures to the failure listener.
+     * The legacy strings, without the material key, are only skipped for the material they failed with.
      *
      * @param item             the SpigotItem to modify
      * @param nbtString        the SNBT string to apply
@@ -80,22 +326,64 @@ public class NBTModifier implements SpigotItemModifier {
      */
     @SuppressWarnings("deprecation")
     private void applyNBT(SpigotItem item, String nbtString, boolean useDataComponent) {
+        String failureKey = useDataComponent ? nbtString : item.getItemStack().getType().name() + nbtString;
+        if (FAILURE_CACHE.getIfPresent(failureKey) != null) {
+            METRICS.failureCacheHitCount.increment();
+            return;
+        }
         try {
             if (useDataComponent) {
-                ItemStack nbtItemStack = Bukkit.getItemFactory().createItemStack(nbtString);
-                try {
-                    if (PaperNBTApplier.SUPPORTED && PaperNBTApplier.hasAllSupportedComponentTypes(nbtItemStack)) {
-                        item.edit(itemStack -> PaperNBTApplier.mergeComponent(itemStack, nbtItemStack));
+                ParsedItem parsed = getReferenceItem(nbtString);
+                ComponentPatch patch = parsed.patch;
+                if (patch != null) {
+                    try {
+                        if (!patch.isEmpty()) {
+                            item.edit(patch::applyTo);
+                        }
+                        METRICS.mergeCount.increment();
                         return;
+                    } catch (Throwable ignored) {
+                        // The API for Data Component is experimental. Silently ignores error if it's no longer supported in new versions.
+                        METRICS.mergeFailureCount.increment();
                     }
-                } catch (Throwable ignored) {
-                    // The API for Data Component is experimental. Silently ignores error if it's no longer supported in new versions.
                 }
-                item.setItemStack(nbtItemStack);
+                item.setItemStack(parsed.itemStack);
+                METRICS.replaceCount.increment();
             } else {
                 item.setItemStack(Bukkit.getUnsafe().modifyItemStack(item.getItemStack(), nbtString));
+                METRICS.legacyCount.increment();
             }
-        } catch (Throwable ignored) {
+        } catch (Exception e) {
+            reportFailure(failureKey, nbtString, e);
+        }
+    }
+
+    /**
+     * Counts the failure of the SNBT string, keeps it in the failure cache and reports it to the failure listener.
+     *
+     * @param key       the key of the failure cache
+     * @param nbtString the failing SNBT string
+     * @param throwable the error
+     */
+    private static void reportFailure(String key, String nbtString, Throwable throwable) {
+        METRICS.parseFailureCount.increment();
+        FAILURE_CACHE.put(key, throwable);
+        BiConsumer<String, Throwable> listener = failureListener;
+        if (listener != null) {
+            listener.accept(nbtString, throwable);
+        }
+    }
+
+    /**
+     * Internal data class for storing a parsed item with its component patch.
+     */
+    private static final class ParsedItem {
+        private final ItemStack itemStack;
+        private final ComponentPatch patch;
+
+        private ParsedItem(ItemStack itemStack, ComponentPatch patch) {
+            this.itemStack = itemStack;
+            this.patch = patch;
         }
     }
 }
@@ -2,12 +2,27 @@ package io.github.projectunified.craftitem.spigot.nbt;
 
 import io.papermc.paper.datacomponent.DataComponentType;
 import org.bukkit.Material;
+import org.bukkit.Registry;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 class PaperNBTApplier {
     static final boolean SUPPORTED;
+    /**
+     * Whether the server reads plain strings in SNBT text components as literal text (Paper 1.21.5+),
+     * so the text components can be set directly with the same result.
+     */
+    static final boolean DIRECT_SUPPORTED;
+    private static final AtomicReferenceArray<DefaultComponents> DEFAULT_COMPONENTS = new AtomicReferenceArray<>(Material.values().length);
+    private static volatile Boolean allTypesSupported;
 
     static {
         boolean supported;
@@ -23,46 +38,143 @@ class PaperNBTApplier {
             supported = false;
         }
         SUPPORTED = supported;
+
+        boolean directSupported = supported;
+        if (directSupported) {
+            try {
+                // Added in 1.21.5, together with the SNBT text components as plain strings
+                Class.forName("io.papermc.paper.datacomponent.item.TooltipDisplay");
+            } catch (ClassNotFoundException e) {
+                directSupported = false;
+            }
+        }
+        DIRECT_SUPPORTED = directSupported;
+    }
+
+    /**
+     * Checks if every data component type registered on the server can be merged.
+     * The registry is probed once, after which the check is a constant-time lookup.
+     *
+     * @return true if every component type can be merged
+     */
+    static boolean isAllComponentTypesSupported() {
+        Boolean supported = allTypesSupported;
+        if (supported == null) {
+            supported = probeAllComponentTypes();
+            allTypesSupported = supported;
+        }
+        return supported;
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static boolean probeAllComponentTypes() {
+        if (!SUPPORTED) return false;
+        try {
+            for (DataComponentType type : Registry.DATA_COMPONENT_TYPE) {
+                if (!isSupportedType(type)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Throwable e) {
+            // The registry is not available in this version. Check the types of each item instead.
+            return false;
+        }
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static boolean isSupportedType(DataComponentType type) {
+        return type instanceof DataComponentType.Valued || type instanceof DataComponentType.NonValued;
     }
 
     @SuppressWarnings("UnstableApiUsage")
     static boolean hasAllSupportedComponentTypes(ItemStack referenceItem) {
+        if (isAllComponentTypesSupported()) {
+            return true;
+        }
         for (DataComponentType type : referenceItem.getDataTypes()) {
-            if (!(type instanceof DataComponentType.Valued) && !(type instanceof DataComponentType.NonValued)) {
+            if (!isSupportedType(type)) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Gets the default components of the material, computed once per material.
+     *
+     * @param material the material
+     * @return the default components
+     */
+    private static DefaultComponents getDefaultComponents(Material material) {
+        int ordinal = material.ordinal();
+        DefaultComponents defaultComponents = DEFAULT_COMPONENTS.get(ordinal);
+        if (defaultComponents == null) {
+            defaultComponents = new DefaultComponents(new ItemStack(material));
+            DEFAULT_COMPONENTS.set(ordinal, defaultComponents);
+        }
+        return defaultComponents;
+    }
+
+    /**
+     * Computes the operations that merge the components of the parsed item into items of the same material,
+     * setting or unsetting only the components that differ from the default item of the material.
+     *
+     * @param referenceItem the parsed item
+     * @return the patch of the parsed item
+     */
     @SuppressWarnings({"UnstableApiUsage", "unchecked"})
-    static void mergeComponent(ItemStack currentItem, ItemStack referenceItem) {
-        Material material = currentItem.getType();
-        ItemStack defaultItem = new ItemStack(material);
+    static ComponentPatch createPatch(ItemStack referenceItem) {
+        DefaultComponents defaultComponents = getDefaultComponents(referenceItem.getType());
+        List<DataComponentType.Valued<Object>> valuedTypes = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        List<DataComponentType.NonValued> nonValuedTypes = new ArrayList<>();
+        List<DataComponentType> unsetTypes = new ArrayList<>();
 
         for (DataComponentType type : referenceItem.getDataTypes()) {
             if (type instanceof DataComponentType.Valued) {
                 DataComponentType.Valued<Object> valued = (DataComponentType.Valued<Object>) type;
                 Object parsedValue = referenceItem.getData(valued);
-                Object defaultValue = defaultItem.getData(valued);
+                Object defaultValue = defaultComponents.values.get(valued);
                 if (!Objects.equals(parsedValue, defaultValue)) {
                     if (parsedValue == null) {
-                        currentItem.unsetData(valued);
+                        unsetTypes.add(valued);
                     } else {
-                        currentItem.setData(valued, parsedValue);
+                        valuedTypes.add(valued);
+                        values.add(parsedValue);
                     }
                 }
             } else if (type instanceof DataComponentType.NonValued) {
                 DataComponentType.NonValued nonValued = (DataComponentType.NonValued) type;
                 boolean hasTypeInParsed = referenceItem.hasData(nonValued);
-                boolean hasTypeInDefault = defaultItem.hasData(nonValued);
+                boolean hasTypeInDefault = defaultComponents.nonValuedTypes.contains(nonValued);
                 if (hasTypeInParsed == hasTypeInDefault) {
                     continue;
                 }
                 if (hasTypeInParsed) {
-                    currentItem.setData(nonValued);
+                    nonValuedTypes.add(nonValued);
                 } else {
-                    currentItem.unsetData(nonValued);
+                    unsetTypes.add(nonValued);
+                }
+            }
+        }
+        return new ComponentPatch(valuedTypes, values, nonValuedTypes, unsetTypes);
+    }
+
+    /**
+     * The components of the default item of a material, to compare the parsed components against.
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    private static final class DefaultComponents {
+        private final Map<DataComponentType, Object> values = new HashMap<>();
+        private final Set<DataComponentType> nonValuedTypes = new HashSet<>();
+
+        private DefaultComponents(ItemStack defaultItem) {
+            for (DataComponentType type : defaultItem.getDataTypes()) {
+                if (type instanceof DataComponentType.Valued) {
+                    values.put(type, defaultItem.getData((DataComponentType.Valued<?>) type));
+                } else if (type instanceof DataComponentType.NonValued && defaultItem.hasData(type)) {
+                    nonValuedTypes.add(type);
                 }
             }
         }
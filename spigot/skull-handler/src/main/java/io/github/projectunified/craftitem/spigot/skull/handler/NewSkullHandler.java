@@ -11,15 +11,14 @@ import org.bukkit.profile.PlayerTextures;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Skull handler for newer Bukkit versions (1.18+) that have the PlayerProfile API.
  *
  * <p>Uses the modern Bukkit API for setting player profiles and textures.
- * Caches PlayerProfile instances to avoid recreation for repeated textures.
+ * Caches PlayerProfile instances in a bounded {@link ProfileCache} to avoid recreation for repeated textures.
  *
  * <p><strong>Implementation Details:</strong>
  * <ul>
@@ -27,11 +26,43 @@ import java.util.concurrent.ConcurrentHashMap;
  *   <li>Uses PlayerTextures.setSkin() for direct URL assignment</li>
  *   <li>Decodes Base64 texture data to extract texture URL</li>
  *   <li>Caches profiles for performance optimization</li>
+ *   <li>Updates the profiles of player names and UUIDs when resolving them</li>
  * </ul>
  */
 class NewSkullHandler implements SkullHandler {
     private final Gson gson = new Gson();
-    private final Map<String, PlayerProfile> profileMap = new ConcurrentHashMap<>();
+    private final ProfileCache<PlayerProfile> profileCache = new ProfileCache<>();
+    private volatile SkullTextureStore textureStore;
+
+    /**
+     * Gets the cache of the profiles created for skull values.
+     *
+     * @return the profile cache
+     */
+    @Override
+    public ProfileCache<PlayerProfile> getProfileCache() {
+        return profileCache;
+    }
+
+    /**
+     * Gets the store of the textures resolved for player names and UUIDs.
+     *
+     * @return the texture store, or null if the textures are not stored
+     */
+    @Override
+    public SkullTextureStore getTextureStore() {
+        return textureStore;
+    }
+
+    /**
+     * Sets the store of the textures resolved for player names and UUIDs.
+     *
+     * @param store the texture store, or null to stop storing textures
+     */
+    @Override
+    public void setTextureStore(SkullTextureStore store) {
+        this.textureStore = store;
+    }
 
     /**
      * Sets skull texture using an OfflinePlayer.
@@ -54,7 +85,104 @@ class NewSkullHandler implements SkullHandler {
      */
     @Override
     public void setSkullByURL(SkullMeta meta, URL url) {
-        PlayerProfile profile = profileMap.computeIfAbsent(url.toString(), u -> {
+        meta.setOwnerProfile(getProfileByURL(url));
+    }
+
+    /**
+     * Sets skull texture from Base64-encoded texture data.
+     * Decodes the Base64 data to extract the texture URL, then applies it.
+     *
+     * @param meta   the SkullMeta to modify
+     * @param base64 the Base64-encoded texture data (JSON format)
+     * @throws RuntimeException if the Base64 data is invalid or malformed
+     */
+    @Override
+    public void setSkullByBase64(SkullMeta meta, String base64) {
+        setSkullByURL(meta, decodeURL(base64));
+    }
+
+    /**
+     * Resolves a skull texture from a player name by updating its profile with textures.
+     * The update may block the calling thread.
+     *
+     * @param name the player name
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByName(String name) {
+        return resolveUpdated(name, () -> Bukkit.createPlayerProfile(name));
+    }
+
+    /**
+     * Resolves a skull texture from a player UUID by updating its profile with textures.
+     * The update may block the calling thread.
+     *
+     * @param uuid the player UUID
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByUUID(UUID uuid) {
+        return resolveUpdated(uuid.toString(), () -> Bukkit.createPlayerProfile(uuid));
+    }
+
+    /**
+     * Resolves a skull texture from a URL with the cached profile.
+     *
+     * @param url the texture URL
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByURL(URL url) {
+        PlayerProfile profile = getProfileByURL(url);
+        return meta -> meta.setOwnerProfile(profile);
+    }
+
+    /**
+     * Resolves a skull texture from Base64-encoded texture data with the cached profile of its texture URL.
+     *
+     * @param base64 the Base64-encoded texture data (JSON format)
+     * @return the resolved skull
+     * @throws RuntimeException if the Base64 data is invalid or malformed
+     */
+    @Override
+    public ResolvedSkull resolveByBase64(String base64) {
+        return resolveByURL(decodeURL(base64));
+    }
+
+    /**
+     * Gets the cached profile of the key if it is complete,
+     * or creates and updates a new profile and caches it in place of the incomplete one.
+     * The skin of the updated profile is added to the texture store if it is set.
+     *
+     * @param key     the cache key
+     * @param creator the creator of the incomplete profile
+     * @return the resolved skull
+     */
+    private ResolvedSkull resolveUpdated(String key, Supplier<PlayerProfile> creator) {
+        PlayerProfile profile = profileCache.getIfPresent(key);
+        if (profile == null || !profile.isComplete()) {
+            profile = creator.get().update().join();
+            profileCache.put(key, profile);
+            SkullTextureStore store = textureStore;
+            URL skin = profile.getTextures().getSkin();
+            if (store != null && skin != null) {
+                store.put(key, Base64.getEncoder().encodeToString(
+                        String.format("{\"textures\":{\"SKIN\":{\"url\":\"%s\"}}}", skin).getBytes(StandardCharsets.UTF_8)
+                ));
+            }
+        }
+        PlayerProfile updated = profile;
+        return meta -> meta.setOwnerProfile(updated);
+    }
+
+    /**
+     * Gets the profile with the texture URL, from the cache if possible.
+     *
+     * @param url the texture URL
+     * @return the profile
+     */
+    private PlayerProfile getProfileByURL(URL url) {
+        return profileCache.get(url.toString(), u -> {
             PlayerProfile newProfile = Bukkit.createPlayerProfile(UUID.randomUUID(), "");
             PlayerTextures textures = newProfile.getTextures();
             try {
@@ -64,24 +192,21 @@ class NewSkullHandler implements SkullHandler {
             }
             return newProfile;
         });
-        meta.setOwnerProfile(profile);
     }
 
     /**
-     * Sets skull texture from Base64-encoded texture data.
-     * Decodes the Base64 data to extract the texture URL, then applies it.
+     * Decodes the texture URL from Base64-encoded texture data.
      *
-     * @param meta   the SkullMeta to modify
      * @param base64 the Base64-encoded texture data (JSON format)
+     * @return the texture URL
      * @throws RuntimeException if the Base64 data is invalid or malformed
      */
-    @Override
-    public void setSkullByBase64(SkullMeta meta, String base64) {
+    private URL decodeURL(String base64) {
         try {
             String decoded = new String(Base64.getDecoder().decode(base64), StandardCharsets.UTF_8);
             JsonObject json = gson.fromJson(decoded, JsonObject.class);
             String url = json.getAsJsonObject("textures").getAsJsonObject("SKIN").get("url").getAsString();
-            setSkullByURL(meta, url);
+            return new URL(url);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
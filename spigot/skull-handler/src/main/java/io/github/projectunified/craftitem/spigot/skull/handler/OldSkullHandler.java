@@ -5,53 +5,159 @@ import com.mojang.authlib.properties.Property;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.meta.SkullMeta;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Skull handler for older Bukkit versions (before 1.18 with PlayerProfile API).
  * Uses Mojang's GameProfile and reflection for compatibility.
  *
- * <p>Caches GameProfile instances to avoid recreating them for the same texture.
+ * <p>Caches GameProfile instances in a bounded {@link ProfileCache} to avoid recreating them for the same texture.
  * Uses reflection to access internal SkullMeta fields due to API limitations.
+ * The reflected members are looked up once per SkullMeta implementation class and kept as MethodHandles.
  *
  * <p><strong>Implementation Details:</strong>
  * <ul>
  *   <li>Attempts both newer setOwningPlayer() and older setOwner() methods</li>
  *   <li>Creates GameProfiles with texture properties for custom skins</li>
- *   <li>Uses reflection to access profile field in SkullMeta</li>
+ *   <li>Uses reflection to access profile field in SkullMeta, cached per class as MethodHandles</li>
  *   <li>Caches profiles to improve performance with repeated textures</li>
+ *   <li>Stores the textures of players in the texture store when the server has them in the player's profile,
+ *   as for online players. The other textures are only looked up by the server when the skull is sent to the clients,
+ *   so they cannot be stored.</li>
  * </ul>
  */
 @SuppressWarnings("deprecation")
 class OldSkullHandler implements SkullHandler {
-    private final Map<String, GameProfile> cache = new ConcurrentHashMap<>();
-    private final Method getProfileMethod;
+    private static final MethodType PROFILE_SETTER_TYPE = MethodType.methodType(void.class, SkullMeta.class, GameProfile.class);
+    private static final MethodType PROFILE_GETTER_TYPE = MethodType.methodType(GameProfile.class, SkullMeta.class);
+
+    /**
+     * The setProfile(GameProfile) methods of the SkullMeta classes, or null if absent
+     */
+    private static final ClassValue<MethodHandle> SET_PROFILE_METHODS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Method setProfile = type.getMethod("setProfile", GameProfile.class);
+                setProfile.setAccessible(true);
+                return MethodHandles.lookup().unreflect(setProfile).asType(PROFILE_SETTER_TYPE);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * The setters of the profile fields of the SkullMeta classes, or null if absent
+     */
+    private static final ClassValue<MethodHandle> PROFILE_FIELD_SETTERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Field profileField = type.getDeclaredField("profile");
+                profileField.setAccessible(true);
+                return MethodHandles.lookup().unreflectSetter(profileField).asType(PROFILE_SETTER_TYPE);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * The getters of the profile fields of the SkullMeta classes, or null if absent
+     */
+    private static final ClassValue<MethodHandle> PROFILE_FIELD_GETTERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Field profileField = type.getDeclaredField("profile");
+                profileField.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(profileField).asType(PROFILE_GETTER_TYPE);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * The getProfile() methods of the OfflinePlayer classes, or null if absent
+     */
+    private static final ClassValue<MethodHandle> PLAYER_PROFILE_GETTERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Method getProfile = type.getMethod("getProfile");
+                if (!GameProfile.class.isAssignableFrom(getProfile.getReturnType())) {
+                    return null;
+                }
+                getProfile.setAccessible(true);
+                return MethodHandles.lookup().unreflect(getProfile).asType(MethodType.methodType(GameProfile.class, OfflinePlayer.class));
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    };
+
+    private final ProfileCache<GameProfile> profileCache = new ProfileCache<>();
+    private volatile SkullTextureStore textureStore;
+    private final MethodHandle getProfileMethod;
 
     /**
      * Initializes the OldSkullHandler by detecting the correct reflection method
      * for extracting property values (differs between Bukkit versions).
      */
     OldSkullHandler() {
-        Method method = null;
+        MethodHandle method = null;
         try {
             // noinspection JavaReflectionMemberAccess
-            method = Property.class.getDeclaredMethod("value");
+            method = MethodHandles.lookup().unreflect(Property.class.getDeclaredMethod("value"));
         } catch (Exception e) {
             try {
                 // noinspection JavaReflectionMemberAccess
-                method = Property.class.getDeclaredMethod("getValue");
-            } catch (NoSuchMethodException ex) {
+                method = MethodHandles.lookup().unreflect(Property.class.getDeclaredMethod("getValue"));
+            } catch (Exception ex) {
                 // Ignore
             }
         }
-        getProfileMethod = method;
+        getProfileMethod = method == null ? null : method.asType(MethodType.methodType(String.class, Property.class));
+    }
+
+    /**
+     * Gets the cache of the profiles created for skull values.
+     *
+     * @return the profile cache
+     */
+    @Override
+    public ProfileCache<GameProfile> getProfileCache() {
+        return profileCache;
+    }
+
+    /**
+     * Gets the store of the textures resolved for player names and UUIDs.
+     *
+     * @return the texture store, or null if the textures are not stored
+     */
+    @Override
+    public SkullTextureStore getTextureStore() {
+        return textureStore;
+    }
+
+    /**
+     * Sets the store of the textures resolved for player names and UUIDs.
+     *
+     * @param store the texture store, or null to stop storing textures
+     */
+    @Override
+    public void setTextureStore(SkullTextureStore store) {
+        this.textureStore = store;
     }
 
     /**
@@ -73,23 +179,81 @@ class OldSkullHandler implements SkullHandler {
     }
 
     /**
-     * Sets a GameProfile on the SkullMeta using reflection.
+     * Resolves a skull texture from a player name, storing its texture in the texture store if the server has it.
+     *
+     * @param name the player name
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByName(String name) {
+        OfflinePlayer player = org.bukkit.Bukkit.getOfflinePlayer(name);
+        storeTexture(name, player);
+        return meta -> setSkullByPlayer(meta, player);
+    }
+
+    /**
+     * Resolves a skull texture from a player UUID, storing its texture in the texture store if the server has it.
+     *
+     * @param uuid the player UUID
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByUUID(UUID uuid) {
+        OfflinePlayer player = org.bukkit.Bukkit.getOfflinePlayer(uuid);
+        storeTexture(uuid.toString(), player);
+        return meta -> setSkullByPlayer(meta, player);
+    }
+
+    /**
+     * Puts the texture of the player's profile in the texture store, if both are available.
+     *
+     * @param key    the player name or UUID
+     * @param player the player
+     */
+    private void storeTexture(String key, OfflinePlayer player) {
+        SkullTextureStore store = textureStore;
+        if (store == null) {
+            return;
+        }
+        MethodHandle profileGetter = PLAYER_PROFILE_GETTERS.get(player.getClass());
+        if (profileGetter == null) {
+            return;
+        }
+        GameProfile profile;
+        try {
+            profile = (GameProfile) profileGetter.invokeExact(player);
+        } catch (Throwable e) {
+            return;
+        }
+        String texture = getTextureValue(profile);
+        if (!texture.isEmpty()) {
+            store.put(key, texture);
+        }
+    }
+
+    /**
+     * Sets a GameProfile on the SkullMeta using the cached MethodHandles of its class.
      * Attempts setProfile() method first, then falls back to direct field access.
      *
      * @param meta    the SkullMeta to modify
      * @param profile the GameProfile with texture data
      */
     private void setSkullByGameProfile(SkullMeta meta, GameProfile profile) {
-        try {
-            Method setProfile = meta.getClass().getMethod("setProfile", GameProfile.class);
-            setProfile.setAccessible(true);
-            setProfile.invoke(meta, profile);
-        } catch (Exception e) {
+        MethodHandle setProfile = SET_PROFILE_METHODS.get(meta.getClass());
+        if (setProfile != null) {
             try {
-                Field profileField = meta.getClass().getDeclaredField("profile");
-                profileField.setAccessible(true);
-                profileField.set(meta, profile);
-            } catch (Exception ignored) {
+                setProfile.invokeExact(meta, profile);
+                return;
+            } catch (Throwable e) {
+                // Fallback to field access
+            }
+        }
+
+        MethodHandle profileSetter = PROFILE_FIELD_SETTERS.get(meta.getClass());
+        if (profileSetter != null) {
+            try {
+                profileSetter.invokeExact(meta, profile);
+            } catch (Throwable ignored) {
                 // Ignore
             }
         }
@@ -104,7 +268,53 @@ class OldSkullHandler implements SkullHandler {
      */
     @Override
     public void setSkullByURL(SkullMeta meta, URL url) {
-        GameProfile profile = cache.computeIfAbsent(url.toString(), url1 -> {
+        setSkullByGameProfile(meta, getProfileByURL(url));
+    }
+
+    /**
+     * Sets skull texture from Base64-encoded texture data.
+     * Results are cached to avoid recreating profiles for the same Base64 string.
+     *
+     * @param meta   the SkullMeta to modify
+     * @param base64 the Base64-encoded texture data
+     */
+    @Override
+    public void setSkullByBase64(SkullMeta meta, String base64) {
+        setSkullByGameProfile(meta, getProfileByBase64(base64));
+    }
+
+    /**
+     * Resolves a skull texture from a URL with the cached GameProfile.
+     *
+     * @param url the texture URL
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByURL(URL url) {
+        GameProfile profile = getProfileByURL(url);
+        return meta -> setSkullByGameProfile(meta, profile);
+    }
+
+    /**
+     * Resolves a skull texture from Base64-encoded texture data with the cached GameProfile.
+     *
+     * @param base64 the Base64-encoded texture data
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByBase64(String base64) {
+        GameProfile profile = getProfileByBase64(base64);
+        return meta -> setSkullByGameProfile(meta, profile);
+    }
+
+    /**
+     * Gets the GameProfile with the texture URL, from the cache if possible.
+     *
+     * @param url the texture URL
+     * @return the GameProfile
+     */
+    private GameProfile getProfileByURL(URL url) {
+        return profileCache.get(url.toString(), url1 -> {
             GameProfile gameProfile = new GameProfile(UUID.randomUUID(), "");
             gameProfile.getProperties().put("textures", new Property("textures",
                     Base64.getEncoder().encodeToString(
@@ -113,24 +323,20 @@ class OldSkullHandler implements SkullHandler {
             ));
             return gameProfile;
         });
-        setSkullByGameProfile(meta, profile);
     }
 
     /**
-     * Sets skull texture from Base64-encoded texture data.
-     * Results are cached to avoid recreating profiles for the same Base64 string.
+     * Gets the GameProfile with the Base64-encoded texture data, from the cache if possible.
      *
-     * @param meta   the SkullMeta to modify
      * @param base64 the Base64-encoded texture data
+     * @return the GameProfile
      */
-    @Override
-    public void setSkullByBase64(SkullMeta meta, String base64) {
-        GameProfile gameProfile = cache.computeIfAbsent(base64, b -> {
+    private GameProfile getProfileByBase64(String base64) {
+        return profileCache.get(base64, b -> {
             GameProfile profile = new GameProfile(UUID.randomUUID(), "");
             profile.getProperties().put("textures", new Property("textures", b));
             return profile;
         });
-        setSkullByGameProfile(meta, gameProfile);
     }
 
     /**
@@ -142,15 +348,27 @@ class OldSkullHandler implements SkullHandler {
      */
     @Override
     public String getSkullValue(SkullMeta meta) {
+        MethodHandle profileGetter = PROFILE_FIELD_GETTERS.get(meta.getClass());
+        if (profileGetter == null) {
+            return "";
+        }
+
         GameProfile profile;
         try {
-            Field profileField = meta.getClass().getDeclaredField("profile");
-            profileField.setAccessible(true);
-            profile = (GameProfile) profileField.get(meta);
-        } catch (Exception e) {
+            profile = (GameProfile) profileGetter.invokeExact(meta);
+        } catch (Throwable e) {
             return "";
         }
+        return getTextureValue(profile);
+    }
 
+    /**
+     * Gets the texture value (Base64 data) of the GameProfile.
+     *
+     * @param profile the GameProfile, or null
+     * @return the Base64 texture value, or empty string if not found
+     */
+    private String getTextureValue(GameProfile profile) {
         if (profile == null) {
             return "";
         }
@@ -167,8 +385,8 @@ class OldSkullHandler implements SkullHandler {
 
             String value;
             try {
-                value = (String) getProfileMethod.invoke(property);
-            } catch (Exception e) {
+                value = (String) getProfileMethod.invokeExact(property);
+            } catch (Throwable e) {
                 continue;
             }
 
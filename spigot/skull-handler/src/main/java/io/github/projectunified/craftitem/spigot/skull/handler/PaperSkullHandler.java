@@ -8,25 +8,36 @@ import org.bukkit.inventory.meta.SkullMeta;
 
 import java.net.URL;
 import java.util.Base64;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Skull handler for Paper servers using the Paper-specific PlayerProfile API.
  *
  * <p>Uses Paper's faster PlayerProfile implementation compared to Bukkit's standard API.
- * Caches PlayerProfile instances to avoid recreation for repeated textures.
+ * Caches PlayerProfile instances in a bounded {@link ProfileCache} to avoid recreation for repeated textures.
  *
  * <p><strong>Implementation Details:</strong>
  * <ul>
  *   <li>Uses Bukkit.createProfile() to create profiles (Paper-optimized)</li>
  *   <li>Uses ProfileProperty for direct property assignment</li>
  *   <li>Caches profiles for performance optimization</li>
+ *   <li>Completes the profiles of player names and UUIDs when resolving them</li>
  * </ul>
  */
 class PaperSkullHandler implements SkullHandler {
-    private final Map<String, PlayerProfile> profileMap = new ConcurrentHashMap<>();
+    private final ProfileCache<PlayerProfile> profileCache = new ProfileCache<>();
+    private volatile SkullTextureStore textureStore;
+
+    /**
+     * Gets the cache of the profiles created for skull values.
+     *
+     * @return the profile cache
+     */
+    @Override
+    public ProfileCache<PlayerProfile> getProfileCache() {
+        return profileCache;
+    }
 
     /**
      * Sets a PlayerProfile on the SkullMeta.
@@ -38,6 +49,26 @@ class PaperSkullHandler implements SkullHandler {
         meta.setPlayerProfile(profile);
     }
 
+    /**
+     * Gets the store of the textures resolved for player names and UUIDs.
+     *
+     * @return the texture store, or null if the textures are not stored
+     */
+    @Override
+    public SkullTextureStore getTextureStore() {
+        return textureStore;
+    }
+
+    /**
+     * Sets the store of the textures resolved for player names and UUIDs.
+     *
+     * @param store the texture store, or null to stop storing textures
+     */
+    @Override
+    public void setTextureStore(SkullTextureStore store) {
+        this.textureStore = store;
+    }
+
     /**
      * Sets skull texture using an OfflinePlayer.
      * Results are cached to avoid recreating profiles for the same player.
@@ -47,7 +78,7 @@ class PaperSkullHandler implements SkullHandler {
      */
     @Override
     public void setSkullByPlayer(SkullMeta meta, OfflinePlayer player) {
-        PlayerProfile profile = profileMap.computeIfAbsent(player.getUniqueId().toString(), s -> Bukkit.createProfile(player.getUniqueId()));
+        PlayerProfile profile = profileCache.get(player.getUniqueId().toString(), s -> Bukkit.createProfile(player.getUniqueId()));
         setSkull(meta, profile);
     }
 
@@ -60,7 +91,109 @@ class PaperSkullHandler implements SkullHandler {
      */
     @Override
     public void setSkullByURL(SkullMeta meta, URL url) {
-        PlayerProfile profile = profileMap.computeIfAbsent(url.toString(), url1 -> {
+        setSkull(meta, getProfileByURL(url));
+    }
+
+    /**
+     * Sets skull texture from Base64-encoded texture data.
+     * Results are cached to avoid recreating profiles for the same Base64 string.
+     *
+     * @param meta   the SkullMeta to modify
+     * @param base64 the Base64-encoded texture data
+     */
+    @Override
+    public void setSkullByBase64(SkullMeta meta, String base64) {
+        setSkull(meta, getProfileByBase64(base64));
+    }
+
+    /**
+     * Resolves a skull texture from a player name by completing its profile with textures.
+     * The completion may block the calling thread.
+     *
+     * @param name the player name
+     * @return the resolved skull
+     * @throws IllegalStateException if the profile of the player cannot be completed
+     */
+    @Override
+    public ResolvedSkull resolveByName(String name) {
+        return resolveCompleted(name, () -> Bukkit.createProfile(name));
+    }
+
+    /**
+     * Resolves a skull texture from a player UUID by completing its profile with textures.
+     * The completion may block the calling thread.
+     *
+     * @param uuid the player UUID
+     * @return the resolved skull
+     * @throws IllegalStateException if the profile of the player cannot be completed
+     */
+    @Override
+    public ResolvedSkull resolveByUUID(UUID uuid) {
+        return resolveCompleted(uuid.toString(), () -> Bukkit.createProfile(uuid));
+    }
+
+    /**
+     * Resolves a skull texture from a URL with the cached profile.
+     *
+     * @param url the texture URL
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByURL(URL url) {
+        PlayerProfile profile = getProfileByURL(url);
+        return meta -> setSkull(meta, profile);
+    }
+
+    /**
+     * Resolves a skull texture from Base64-encoded texture data with the cached profile.
+     *
+     * @param base64 the Base64-encoded texture data
+     * @return the resolved skull
+     */
+    @Override
+    public ResolvedSkull resolveByBase64(String base64) {
+        PlayerProfile profile = getProfileByBase64(base64);
+        return meta -> setSkull(meta, profile);
+    }
+
+    /**
+     * Gets the cached profile of the key if it has textures,
+     * or creates and completes a new profile and caches it in place of the incomplete one.
+     * The textures of the completed profile are added to the texture store if it is set.
+     *
+     * @param key     the cache key
+     * @param creator the creator of the incomplete profile
+     * @return the resolved skull
+     * @throws IllegalStateException if the profile cannot be completed
+     */
+    private ResolvedSkull resolveCompleted(String key, Supplier<PlayerProfile> creator) {
+        PlayerProfile profile = profileCache.getIfPresent(key);
+        if (profile == null || !profile.hasTextures()) {
+            profile = creator.get();
+            if (!profile.complete(true)) {
+                throw new IllegalStateException("Could not complete the profile of " + key);
+            }
+            profileCache.put(key, profile);
+            SkullTextureStore store = textureStore;
+            if (store != null) {
+                String texture = getTexture(profile);
+                if (!texture.isEmpty()) {
+                    store.put(key, texture);
+                }
+            }
+        }
+        PlayerProfile completed = profile;
+        return meta -> setSkull(meta, completed);
+    }
+
+    /**
+     * Gets the profile with the texture URL, from the cache if possible.
+     *
+     * @param url the texture URL
+     * @return the profile
+     */
+    private PlayerProfile getProfileByURL(URL url) {
+        return profileCache.get(url.toString(), url1 -> {
             PlayerProfile playerProfile = Bukkit.createProfile(UUID.randomUUID());
             playerProfile.setProperty(new ProfileProperty("textures",
                     Base64.getEncoder().encodeToString(
@@ -69,24 +202,20 @@ class PaperSkullHandler implements SkullHandler {
             ));
             return playerProfile;
         });
-        setSkull(meta, profile);
     }
 
     /**
-     * Sets skull texture from Base64-encoded texture data.
-     * Results are cached to avoid recreating profiles for the same Base64 string.
+     * Gets the profile with the Base64-encoded texture data, from the cache if possible.
      *
-     * @param meta   the SkullMeta to modify
      * @param base64 the Base64-encoded texture data
+     * @return the profile
      */
-    @Override
-    public void setSkullByBase64(SkullMeta meta, String base64) {
-        PlayerProfile profile = profileMap.computeIfAbsent(base64, b -> {
+    private PlayerProfile getProfileByBase64(String base64) {
+        return profileCache.get(base64, b -> {
             PlayerProfile playerProfile = Bukkit.createProfile(UUID.randomUUID());
             playerProfile.setProperty(new ProfileProperty("textures", base64));
             return playerProfile;
         });
-        setSkull(meta, profile);
     }
 
     /**
@@ -102,7 +231,16 @@ class PaperSkullHandler implements SkullHandler {
         if (profile == null) {
             return "";
         }
+        return getTexture(profile);
+    }
 
+    /**
+     * Extracts the texture value (Base64 data) from the textures property of the PlayerProfile.
+     *
+     * @param profile the PlayerProfile to query
+     * @return the Base64 texture value, or empty string if not found
+     */
+    private static String getTexture(PlayerProfile profile) {
         ProfileProperty texturesProperty = null;
         for (ProfileProperty property : profile.getProperties()) {
             if (property.getName().equalsIgnoreCase("textures")) {
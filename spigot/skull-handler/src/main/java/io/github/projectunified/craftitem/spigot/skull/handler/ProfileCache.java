@@ -0,0 +1,40 @@
+package io.github.projectunified.craftitem.spigot.skull.handler;
+
+import io.github.projectunified.craftitem.core.BoundedCache;
+
+/**
+ * A thread-safe cache of skull profiles, bounded by size and optionally by age.
+ *
+ * <p>Used by the {@link SkullHandler} implementations to reuse the profiles created for the same skull values.
+ * The handler from {@link SkullHandler#getInstance()} is shared, so there is a single profile cache for the server.
+ * When the cache is full, the least recently used profiles are evicted.
+ * Profiles older than the expiration time, if set, are evicted when they are accessed.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * ProfileCache<?> cache = SkullHandler.getInstance().getProfileCache();
+ * cache.setMaxSize(5000);
+ * cache.setExpireAfterWrite(30, TimeUnit.MINUTES);
+ * long hits = cache.getHitCount();
+ * }</pre>
+ *
+ * @param <V> the type of the profiles
+ */
+public final class ProfileCache<V> extends BoundedCache<String, V> {
+    /**
+     * Creates a new ProfileCache with the {@link #DEFAULT_MAX_SIZE default maximum size} and no expiration.
+     */
+    public ProfileCache() {
+        super();
+    }
+
+    /**
+     * Creates a new ProfileCache with no expiration.
+     *
+     * @param maxSize the maximum number of profiles, or 0 to disable the cache
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public ProfileCache(int maxSize) {
+        super(maxSize);
+    }
+}
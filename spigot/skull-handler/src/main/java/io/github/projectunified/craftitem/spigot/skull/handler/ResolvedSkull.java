@@ -0,0 +1,25 @@
+package io.github.projectunified.craftitem.spigot.skull.handler;
+
+import org.bukkit.inventory.meta.SkullMeta;
+
+/**
+ * A skull texture resolved from a skull value by {@link SkullHandler#resolve(String)}.
+ *
+ * <p>All lookups needed for the texture are done when resolving,
+ * so applying it to skull metas is cheap and does not block.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * SkullHandler.getInstance().resolveAsync("Notch", executor)
+ *     .thenAcceptAsync(skull -> skull.applyTo(meta), mainThreadExecutor);
+ * }</pre>
+ */
+@FunctionalInterface
+public interface ResolvedSkull {
+    /**
+     * Applies the resolved texture to the SkullMeta.
+     *
+     * @param meta the SkullMeta to modify
+     */
+    void applyTo(SkullMeta meta);
+}
@@ -3,8 +3,13 @@ package io.github.projectunified.craftitem.spigot.skull.handler;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.meta.SkullMeta;
 
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 /**
@@ -16,6 +21,11 @@ import java.util.regex.Pattern;
  *
  * <p>Provides methods to set skull textures via various sources:
  * player names, UUIDs, texture URLs, Mojang hashes, or Base64 data.
+ *
+ * <p>Player names and UUIDs may need a lookup that blocks the calling thread.
+ * {@link #resolveAsync(String, Executor)} does these lookups on an executor
+ * and returns a {@link ResolvedSkull} that can be applied without blocking.
+ * A {@link SkullTextureStore} can be set to keep the resolved textures across restarts.
  */
 public interface SkullHandler {
     /**
@@ -31,44 +41,57 @@ public interface SkullHandler {
     Pattern BASE64_PATTERN = Pattern.compile("[-A-Za-z0-9+/]{100,}={0,3}");
 
     /**
-     * Gets the instance of {@link SkullHandler}.
+     * Gets the shared instance of {@link SkullHandler}, created for the server on the first call.
+     * Every call returns the same instance, so its profile cache and texture store are shared.
      *
      * @return the instance
      */
     static SkullHandler getInstance() {
-        try {
-            Class.forName("com.destroystokyo.paper.profile.PlayerProfile");
-            return new PaperSkullHandler();
-        } catch (Exception e1) {
-            try {
-                Class.forName("org.bukkit.profile.PlayerProfile");
-                return new NewSkullHandler();
-            } catch (Exception e2) {
-                return new OldSkullHandler();
-            }
-        }
+        return SkullHandlerHolder.INSTANCE;
     }
 
     /**
      * Sets skull texture using a player name.
-     * Uses Bukkit's OfflinePlayer lookup mechanism.
+     * Uses the stored texture if any, or {@link #resolveByName(String)}, so the profiles cached by
+     * {@link #prefetch(Collection)} are reused. Falls back to the player from Bukkit's OfflinePlayer lookup
+     * if the player cannot be resolved.
      *
      * @param meta the SkullMeta to modify
      * @param name the player name
      */
     default void setSkullByName(SkullMeta meta, String name) {
-        setSkullByPlayer(meta, org.bukkit.Bukkit.getOfflinePlayer(name));
+        ResolvedSkull skull = resolveStored(name);
+        if (skull == null) {
+            try {
+                skull = resolveByName(name);
+            } catch (RuntimeException e) {
+                setSkullByPlayer(meta, org.bukkit.Bukkit.getOfflinePlayer(name));
+                return;
+            }
+        }
+        skull.applyTo(meta);
     }
 
     /**
      * Sets skull texture using a player UUID.
-     * Uses Bukkit's OfflinePlayer lookup mechanism.
+     * Uses the stored texture if any, or {@link #resolveByUUID(UUID)}, so the profiles cached by
+     * {@link #prefetch(Collection)} are reused. Falls back to the player from Bukkit's OfflinePlayer lookup
+     * if the player cannot be resolved.
      *
      * @param meta the SkullMeta to modify
      * @param uuid the player UUID
      */
     default void setSkullByUUID(SkullMeta meta, UUID uuid) {
-        setSkullByPlayer(meta, org.bukkit.Bukkit.getOfflinePlayer(uuid));
+        ResolvedSkull skull = resolveStored(uuid.toString());
+        if (skull == null) {
+            try {
+                skull = resolveByUUID(uuid);
+            } catch (RuntimeException e) {
+                setSkullByPlayer(meta, org.bukkit.Bukkit.getOfflinePlayer(uuid));
+                return;
+            }
+        }
+        skull.applyTo(meta);
     }
 
     /**
@@ -116,7 +139,7 @@ public interface SkullHandler {
 
     /**
      * Sets skull texture using a string value that can be in multiple formats.
-     * Attempts to parse the value in the following order:
+     * The format is determined by {@link SkullInputType#classify(String)}, in the following order:
      * <ol>
      *   <li>As a texture URL</li>
      *   <li>As a Mojang SHA256 texture hash</li>
@@ -129,38 +152,266 @@ public interface SkullHandler {
      * @param value the skull texture value in any of the supported formats
      */
     default void setSkull(SkullMeta meta, String value) {
-        // Try URL
+        switch (SkullInputType.classify(value)) {
+            case URL:
+                try {
+                    setSkullByURL(meta, new URL(value));
+                    return;
+                } catch (Throwable ignored) {
+                    // IGNORED
+                }
+                break;
+            case TEXTURE_HASH:
+                setSkullByURL(meta, "https://textures.minecraft.net/texture/" + value);
+                return;
+            case BASE64:
+                setSkullByBase64(meta, value);
+                return;
+            case UUID:
+                try {
+                    setSkullByUUID(meta, UUID.fromString(value));
+                    return;
+                } catch (Throwable ignored) {
+                    // IGNORED
+                }
+                break;
+            default:
+                break;
+        }
+
+        // Default to player name
+        setSkullByName(meta, value);
+    }
+
+    /**
+     * Resolves a skull value that holds the texture itself, which does not need any lookup.
+     * The value is classified in the same order as {@link #setSkull(SkullMeta, String)}.
+     *
+     * @param value the skull texture value
+     * @return the resolved skull, or null if the value is a player UUID or name
+     */
+    default ResolvedSkull resolveTexture(String value) {
+        switch (SkullInputType.classify(value)) {
+            case URL:
+                try {
+                    return resolveByURL(new URL(value));
+                } catch (MalformedURLException e) {
+                    return null;
+                }
+            case TEXTURE_HASH:
+                try {
+                    return resolveByURL(new URL("https://textures.minecraft.net/texture/" + value));
+                } catch (MalformedURLException e) {
+                    throw new RuntimeException(e);
+                }
+            case BASE64:
+                return resolveByBase64(value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Resolves a skull value in any of the formats supported by {@link #setSkull(SkullMeta, String)}.
+     * Player UUIDs and names are taken from the {@link #getTextureStore() texture store} if possible,
+     * or looked up, which may block the calling thread.
+     *
+     * @param value the skull texture value
+     * @return the resolved skull
+     */
+    default ResolvedSkull resolve(String value) {
+        ResolvedSkull texture = resolveTexture(value);
+        if (texture != null) {
+            return texture;
+        }
+
+        ResolvedSkull stored = resolveStored(value);
+        if (stored != null) {
+            return stored;
+        }
+
+        if (SkullInputType.classify(value) == SkullInputType.UUID) {
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(value);
+            } catch (IllegalArgumentException e) {
+                uuid = null;
+            }
+            if (uuid != null) {
+                return resolveByUUID(uuid);
+            }
+        }
+
+        // Default to player name
+        return resolveByName(value);
+    }
+
+    /**
+     * Resolves a skull value on the executor.
+     * Values that hold the texture itself or whose texture is stored are resolved on the calling thread
+     * and return a completed future, while the other player UUIDs and names are looked up on the executor.
+     *
+     * @param value    the skull texture value
+     * @param executor the executor to run the lookups on
+     * @return the future of the resolved skull, completed exceptionally if the value cannot be resolved
+     */
+    default CompletableFuture<ResolvedSkull> resolveAsync(String value, Executor executor) {
+        ResolvedSkull texture;
         try {
-            URL url = new URL(value);
-            setSkullByURL(meta, url);
-            return;
-        } catch (Throwable ignored) {
-            // IGNORED
+            texture = resolveTexture(value);
+            if (texture == null) {
+                texture = resolveStored(value);
+            }
+        } catch (Throwable e) {
+            CompletableFuture<ResolvedSkull> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        if (texture != null) {
+            return CompletableFuture.completedFuture(texture);
         }
+        return CompletableFuture.supplyAsync(() -> resolve(value), executor);
+    }
 
-        // Try Mojang SHA256
-        if (MOJANG_SHA256_APPROX_PATTERN.matcher(value).matches()) {
-            setSkullByURL(meta, "https://textures.minecraft.net/texture/" + value);
-            return;
+    /**
+     * Resolves the skull values ahead of time, so the profiles they need are cached before they are used.
+     * Player UUIDs and names are looked up, which may block the calling thread.
+     * Values that cannot be resolved are skipped.
+     *
+     * @param values the skull texture values
+     */
+    default void prefetch(Collection<String> values) {
+        for (String value : new LinkedHashSet<>(values)) {
+            if (value == null || value.isEmpty()) continue;
+            try {
+                resolve(value);
+            } catch (Throwable ignored) {
+                // IGNORED
+            }
         }
+    }
 
-        // Try Base64
-        if (BASE64_PATTERN.matcher(value).matches()) {
-            setSkullByBase64(meta, value);
-            return;
+    /**
+     * Resolves the skull values ahead of time in parallel on the executor,
+     * so the profiles they need are cached before they are used.
+     * Values that cannot be resolved are skipped.
+     *
+     * @param values   the skull texture values
+     * @param executor the executor to resolve the values on
+     * @return the future completed when all values are resolved or skipped
+     */
+    default CompletableFuture<Void> prefetch(Collection<String> values, Executor executor) {
+        Collection<String> distinctValues = new LinkedHashSet<>(values);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[distinctValues.size()];
+        int index = 0;
+        for (String value : distinctValues) {
+            if (value == null || value.isEmpty()) {
+                futures[index++] = CompletableFuture.completedFuture(null);
+                continue;
+            }
+            futures[index++] = CompletableFuture.runAsync(() -> resolve(value), executor).exceptionally(throwable -> null);
         }
+        return CompletableFuture.allOf(futures);
+    }
 
-        // Try UUID
+    /**
+     * Resolves a player UUID or name from the {@link #getTextureStore() texture store}.
+     * A stored texture that cannot be resolved is removed from the store, so the player is looked up again.
+     *
+     * @param value the player UUID or name
+     * @return the resolved skull, or null if there is no texture store or the texture is not stored or invalid
+     */
+    default ResolvedSkull resolveStored(String value) {
+        SkullTextureStore store = getTextureStore();
+        if (store == null) {
+            return null;
+        }
+        String texture = store.get(value);
+        if (texture == null) {
+            return null;
+        }
         try {
-            UUID uuid = UUID.fromString(value);
-            setSkullByUUID(meta, uuid);
-            return;
-        } catch (Throwable ignored) {
-            // IGNORED
+            return resolveByBase64(texture);
+        } catch (RuntimeException e) {
+            store.invalidate(value);
+            return null;
         }
+    }
 
-        // Default to player name
-        setSkullByName(meta, value);
+    /**
+     * Resolves a skull texture from a player name.
+     * Uses Bukkit's OfflinePlayer lookup mechanism, which may block the calling thread.
+     *
+     * @param name the player name
+     * @return the resolved skull
+     */
+    default ResolvedSkull resolveByName(String name) {
+        OfflinePlayer player = org.bukkit.Bukkit.getOfflinePlayer(name);
+        return meta -> setSkullByPlayer(meta, player);
+    }
+
+    /**
+     * Resolves a skull texture from a player UUID.
+     * Uses Bukkit's OfflinePlayer lookup mechanism, which may block the calling thread.
+     *
+     * @param uuid the player UUID
+     * @return the resolved skull
+     */
+    default ResolvedSkull resolveByUUID(UUID uuid) {
+        OfflinePlayer player = org.bukkit.Bukkit.getOfflinePlayer(uuid);
+        return meta -> setSkullByPlayer(meta, player);
+    }
+
+    /**
+     * Resolves a skull texture from a texture URL.
+     *
+     * @param url the texture URL
+     * @return the resolved skull
+     */
+    default ResolvedSkull resolveByURL(URL url) {
+        return meta -> setSkullByURL(meta, url);
+    }
+
+    /**
+     * Resolves a skull texture from Base64-encoded texture data.
+     *
+     * @param base64 the Base64-encoded texture data
+     * @return the resolved skull
+     */
+    default ResolvedSkull resolveByBase64(String base64) {
+        return meta -> setSkullByBase64(meta, base64);
+    }
+
+    /**
+     * Gets the cache of the profiles created for skull values.
+     * Its size, expiration and counters can be used to tune and monitor the handler.
+     *
+     * @return the profile cache, or null if the handler does not cache profiles
+     */
+    default ProfileCache<?> getProfileCache() {
+        return null;
+    }
+
+    /**
+     * Gets the store of the textures resolved for player names and UUIDs.
+     *
+     * @return the texture store, or null if the textures are not stored
+     */
+    default SkullTextureStore getTextureStore() {
+        return null;
+    }
+
+    /**
+     * Sets the store of the textures resolved for player names and UUIDs.
+     * The handler uses the stored textures instead of looking up the players,
+     * and stores the textures it resolves with {@link #resolve(String)} if it can read them from the profiles.
+     * As {@link #getInstance()} is shared, the store set on it is used by every caller.
+     *
+     * @param store the texture store, or null to stop storing textures
+     * @throws UnsupportedOperationException if the handler does not support texture stores
+     */
+    default void setTextureStore(SkullTextureStore store) {
+        throw new UnsupportedOperationException("This skull handler does not support texture stores");
     }
 
     /**
@@ -0,0 +1,26 @@
+package io.github.projectunified.craftitem.spigot.skull.handler;
+
+/**
+ * Internal holder of the shared {@link SkullHandler}, created on the first call to {@link SkullHandler#getInstance()}.
+ */
+final class SkullHandlerHolder {
+    static final SkullHandler INSTANCE = create();
+
+    private SkullHandlerHolder() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    private static SkullHandler create() {
+        try {
+            Class.forName("com.destroystokyo.paper.profile.PlayerProfile");
+            return new PaperSkullHandler();
+        } catch (Exception e1) {
+            try {
+                Class.forName("org.bukkit.profile.PlayerProfile");
+                return new NewSkullHandler();
+            } catch (Exception e2) {
+                return new OldSkullHandler();
+            }
+        }
+    }
+}
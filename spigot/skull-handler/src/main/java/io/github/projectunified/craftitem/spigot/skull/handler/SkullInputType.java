@@ -0,0 +1,128 @@
+package io.github.projectunified.craftitem.spigot.skull.handler;
+
+/**
+ * The kinds of skull values accepted by {@link SkullHandler#setSkull(org.bukkit.inventory.meta.SkullMeta, String)}.
+ *
+ * <p>{@link #classify(String)} determines the kind of a value in a single scan, without exceptions or regular expressions.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * SkullInputType type = SkullInputType.classify("Notch"); // NAME
+ * boolean texture = type.isTexture(); // false
+ * }</pre>
+ */
+public enum SkullInputType {
+    /**
+     * A texture URL, with one of the protocols supported by {@link java.net.URL}
+     */
+    URL(true),
+    /**
+     * A Mojang SHA256 texture hash, matching {@link SkullHandler#MOJANG_SHA256_APPROX_PATTERN}
+     */
+    TEXTURE_HASH(true),
+    /**
+     * Base64-encoded texture data, matching {@link SkullHandler#BASE64_PATTERN}
+     */
+    BASE64(true),
+    /**
+     * A player UUID, with five groups of hex digits like {@link java.util.UUID#fromString(String)}.
+     * The groups are as lenient as the parser, which may still reject some of them on newer Java versions.
+     */
+    UUID(false),
+    /**
+     * A player name, for any other value
+     */
+    NAME(false);
+
+    private static final String[] URL_PROTOCOLS = {"http", "https", "ftp", "file", "jar", "mailto", "netdoc"};
+
+    private final boolean texture;
+
+    SkullInputType(boolean texture) {
+        this.texture = texture;
+    }
+
+    /**
+     * Checks if the values of this kind hold the texture itself, so they can be applied without any lookup.
+     *
+     * @return true for URLs, texture hashes and Base64 data
+     */
+    public boolean isTexture() {
+        return texture;
+    }
+
+    /**
+     * Classifies the skull value in a single scan.
+     * The kinds are checked in the same order as {@link SkullHandler#setSkull(org.bukkit.inventory.meta.SkullMeta, String)}.
+     *
+     * @param value the skull value
+     * @return the kind of the value
+     */
+    public static SkullInputType classify(String value) {
+        int length = value.length();
+        if (hasURLProtocol(value)) {
+            return URL;
+        }
+
+        boolean hash = length >= 55 && length <= 70;
+        boolean base64 = length >= 100;
+        boolean uuid = length <= 36;
+        int padding = 0;
+        int dashes = 0;
+        int groupLength = 0;
+        for (int i = 0; i < length && (hash || base64 || uuid); i++) {
+            char c = value.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            boolean lower = c >= 'a' && c <= 'z';
+            boolean upper = c >= 'A' && c <= 'Z';
+
+            hash &= digit || lower;
+
+            if (c == '=') {
+                padding++;
+                base64 &= padding <= 3;
+            } else {
+                base64 &= padding == 0 && (digit || lower || upper || c == '-' || c == '+' || c == '/');
+            }
+
+            if (c == '-') {
+                uuid &= groupLength > 0 && ++dashes <= 4;
+                groupLength = 0;
+            } else if (c == '+') {
+                // Leading sign of a group, as accepted by Long.parseLong
+                uuid &= groupLength == 0 && i + 1 < length && isHexDigit(value.charAt(i + 1));
+            } else {
+                // A group of 16 digits overflows a long if its first digit is 8 or more
+                uuid &= isHexDigit(c) && (++groupLength < 16 || (groupLength == 16 && value.charAt(i - 15) < '8'));
+            }
+        }
+
+        if (hash) return TEXTURE_HASH;
+        if (base64 && length - padding >= 100) return BASE64;
+        if (uuid && dashes == 4 && groupLength > 0) return UUID;
+        return NAME;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Checks if the value starts with a protocol supported by {@link java.net.URL}, followed by a colon.
+     *
+     * @param value the value
+     * @return true if the value has a supported protocol
+     */
+    private static boolean hasURLProtocol(String value) {
+        int colon = value.indexOf(':');
+        if (colon <= 0) {
+            return false;
+        }
+        for (String protocol : URL_PROTOCOLS) {
+            if (protocol.length() == colon && value.regionMatches(true, 0, protocol, 0, colon)) {
+                return !protocol.equals("jar") || value.contains("!/");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.projectunified.craftitem.spigot.skull.handler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A file-backed store of the textures resolved for player names and UUIDs.
+ *
+ * <p>Set on a {@link SkullHandler} with {@link SkullHandler#setTextureStore(SkullTextureStore)},
+ * the stored textures are used instead of looking up the players again, and the textures resolved by
+ * {@link SkullHandler#resolve(String)} are added to the store. This keeps the textures across restarts.
+ * Setting it on {@link SkullHandler#getInstance()} applies it to every skull built on the server,
+ * including the ones of the skull modifier.
+ * Before 1.18, the server only has the textures of the players it loaded, such as the online players,
+ * so only those are stored.
+ *
+ * <p>The file is an append-only log with one {@code key<TAB>timestamp<TAB>base64} line per texture,
+ * where later lines replace earlier ones. It is loaded on first access and compacted when
+ * it holds more replaced or expired lines than live ones. Keys are case-insensitive.
+ * Errors when reading or writing the file are ignored, as the store is only a cache.
+ *
+ * <p><strong>Example Usage:</strong>
+ * <pre>{@code
+ * Path file = plugin.getDataFolder().toPath().resolve("skull-textures.tsv");
+ * SkullHandler.getInstance().setTextureStore(new SkullTextureStore(file, 7, TimeUnit.DAYS));
+ * }</pre>
+ */
+public final class SkullTextureStore {
+    private final Path file;
+    private final long maxAgeMillis;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean loaded;
+    private int lineCount;
+
+    /**
+     * Creates a new SkullTextureStore whose textures do not expire.
+     *
+     * @param file the file of the store
+     */
+    public SkullTextureStore(Path file) {
+        this(file, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new SkullTextureStore.
+     *
+     * @param file   the file of the store
+     * @param maxAge the time after which the textures are resolved again, or 0 to keep them forever
+     * @param unit   the unit of the time
+     * @throws IllegalArgumentException if the time is negative
+     */
+    public SkullTextureStore(Path file, long maxAge, TimeUnit unit) {
+        if (maxAge < 0) {
+            throw new IllegalArgumentException("The maximum age must not be negative");
+        }
+        this.file = file;
+        this.maxAgeMillis = unit.toMillis(maxAge);
+    }
+
+    /**
+     * Gets the file of the store.
+     *
+     * @return the file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the stored texture of the key.
+     *
+     * @param key the player name or UUID
+     * @return the Base64-encoded texture data, or null if it is absent or expired
+     */
+    public synchronized String get(String key) {
+        load();
+        Entry entry = entries.get(normalizeKey(key));
+        if (entry == null || isExpired(entry, System.currentTimeMillis())) {
+            return null;
+        }
+        return entry.texture;
+    }
+
+    /**
+     * Stores the texture of the key and appends it to the file.
+     * Keys and textures containing tabs or line breaks are not stored.
+     *
+     * @param key     the player name or UUID
+     * @param texture the Base64-encoded texture data
+     */
+    public synchronized void put(String key, String texture) {
+        if (!isValidField(key) || !isValidField(texture)) return;
+        load();
+        String normalizedKey = normalizeKey(key);
+        Entry entry = new Entry(texture, System.currentTimeMillis());
+        Entry previous = entries.put(normalizedKey, entry);
+        if (previous != null && previous.texture.equals(texture) && !isExpired(previous, entry.timestamp)) {
+            // Keep the file small when the texture did not change
+            entries.put(normalizedKey, previous);
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writeLine(writer, normalizedKey, entry);
+            }
+            lineCount++;
+        } catch (IOException ignored) {
+            // The store is only a cache
+        }
+    }
+
+    /**
+     * Removes the stored texture of the key.
+     * The removal is written to the file when it is compacted.
+     *
+     * @param key the player name or UUID
+     */
+    public synchronized void invalidate(String key) {
+        load();
+        entries.remove(normalizeKey(key));
+    }
+
+    /**
+     * Gets the number of stored textures, including the expired ones.
+     *
+     * @return the number of textures
+     */
+    public synchronized int size() {
+        load();
+        return entries.size();
+    }
+
+    /**
+     * Rewrites the file with only the live textures, dropping the replaced and expired lines.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void compact() throws IOException {
+        load();
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> isExpired(entry, now));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                writeLine(writer, entry.getKey(), entry.getValue());
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        lineCount = entries.size();
+    }
+
+    private void load() {
+        if (loaded) return;
+        loaded = true;
+        if (!Files.isRegularFile(file)) return;
+
+        long now = System.currentTimeMillis();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                int firstTab = line.indexOf('\t');
+                int secondTab = firstTab < 0 ? -1 : line.indexOf('\t', firstTab + 1);
+                if (secondTab < 0 || secondTab == line.length() - 1) continue;
+                long timestamp;
+                try {
+                    timestamp = Long.parseLong(line.substring(firstTab + 1, secondTab));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                Entry entry = new Entry(line.substring(secondTab + 1), timestamp);
+                if (isExpired(entry, now)) continue;
+                entries.put(normalizeKey(line.substring(0, firstTab)), entry);
+            }
+        } catch (IOException ignored) {
+            // The store is only a cache
+        }
+
+        if (lineCount > entries.size() * 2) {
+            try {
+                compact();
+            } catch (IOException ignored) {
+                // The store is only a cache
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return maxAgeMillis > 0 && now - entry.timestamp >= maxAgeMillis;
+    }
+
+    private static String normalizeKey(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isValidField(String value) {
+        if (value == null || value.isEmpty()) return false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r') return false;
+        }
+        return true;
+    }
+
+    private static void writeLine(BufferedWriter writer, String key, Entry entry) throws IOException {
+        writer.write(key);
+        writer.write('\t');
+        writer.write(Long.toString(entry.timestamp));
+        writer.write('\t');
+        writer.write(entry.texture);
+        writer.write('\n');
+    }
+
+    /**
+     * Internal data class for storing a texture with the time it was resolved.
+     */
+    private static final class Entry {
+        private final String texture;
+        private final long timestamp;
+
+        private Entry(String texture, long timestamp) {
+            this.texture = texture;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package io.github.projectunified.craftitem.spigot.skull;
 
+import io.github.projectunified.craftitem.core.TranslatableString;
 import io.github.projectunified.craftitem.spigot.core.SpigotItem;
 import io.github.projectunified.craftitem.spigot.core.SpigotItemModifier;
+import io.github.projectunified.craftitem.spigot.skull.handler.ProfileCache;
+import io.github.projectunified.craftitem.spigot.skull.handler.ResolvedSkull;
 import io.github.projectunified.craftitem.spigot.skull.handler.SkullHandler;
 import org.bukkit.inventory.meta.SkullMeta;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 
 /**
@@ -14,11 +25,26 @@ import java.util.function.UnaryOperator;
  * - Texture URLs
  * - Mojang SHA256 hashes
  * - Base64 encoded texture data
+ *
+ * <p>A skull modifier created with an {@link Executor} resolves player names and UUIDs asynchronously
+ * with {@link SkullHandler#resolveAsync(String, Executor)}, so the building thread never waits for a lookup.
+ * Until a value is resolved, the items are built without its texture.
+ * The resolved values are shared by all asynchronous skull modifiers and kept in {@link #getResolvedSkullCache()}.
+ * The values that failed to resolve are kept in {@link #getFailedSkullCache()} and are not retried
+ * until they expire from it, one minute by default.
  */
 public class SkullModifier implements SpigotItemModifier {
     private static final SkullHandler skullHandler = SkullHandler.getInstance();
+    private static final ProfileCache<ResolvedSkull> RESOLVED_SKULLS = new ProfileCache<>();
+    private static final ProfileCache<Throwable> FAILED_SKULLS = new ProfileCache<>();
+    private static final Set<String> PENDING_VALUES = ConcurrentHashMap.newKeySet();
 
-    private final String skullString;
+    static {
+        FAILED_SKULLS.setExpireAfterWrite(1, TimeUnit.MINUTES);
+    }
+
+    private final TranslatableString skullString;
+    private final Executor executor;
 
     /**
      * Creates a skull modifier.
@@ -26,13 +52,129 @@ public class SkullModifier implements SpigotItemModifier {
      * @param skullString the skull string
      */
     public SkullModifier(String skullString) {
-        this.skullString = skullString;
+        this(skullString, null);
+    }
+
+    /**
+     * Creates a skull modifier that resolves player names and UUIDs asynchronously.
+     *
+     * @param skullString the skull string
+     * @param executor    the executor to run the lookups on, or null to resolve them on the building thread
+     */
+    public SkullModifier(String skullString, Executor executor) {
+        this.skullString = new TranslatableString(skullString);
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the skull handler used by the skull modifiers.
+     * Its {@link SkullHandler#getProfileCache() profile cache} can be configured and monitored.
+     *
+     * @return the skull handler
+     */
+    public static SkullHandler getSkullHandler() {
+        return skullHandler;
+    }
+
+    /**
+     * Gets the cache of the skull values resolved by the asynchronous skull modifiers.
+     *
+     * @return the resolved skull cache
+     */
+    public static ProfileCache<ResolvedSkull> getResolvedSkullCache() {
+        return RESOLVED_SKULLS;
+    }
+
+    /**
+     * Gets the cache of the skull values that the asynchronous skull modifiers failed to resolve, with their errors.
+     * The values are not resolved again until they expire from the cache,
+     * so its expiration is the time before retrying them.
+     *
+     * @return the failed skull cache
+     */
+    public static ProfileCache<Throwable> getFailedSkullCache() {
+        return FAILED_SKULLS;
+    }
+
+    /**
+     * Resolves the skull values ahead of time for the asynchronous skull modifiers,
+     * so the items built with them get their textures from the first build.
+     * Values that cannot be resolved are skipped and kept in {@link #getFailedSkullCache()}.
+     *
+     * @param values   the skull values, already translated
+     * @param executor the executor to run the lookups on
+     * @return the future completed when all values are resolved or skipped
+     * @see SkullHandler#prefetch(Collection, Executor)
+     */
+    public static CompletableFuture<Void> prefetch(Collection<String> values, Executor executor) {
+        Collection<String> distinctValues = new LinkedHashSet<>(values);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[distinctValues.size()];
+        int index = 0;
+        for (String value : distinctValues) {
+            if (value == null || value.isEmpty()) {
+                futures[index++] = CompletableFuture.completedFuture(null);
+                continue;
+            }
+            futures[index++] = skullHandler.resolveAsync(value, executor)
+                    .handle((resolved, throwable) -> {
+                        complete(value, resolved, throwable);
+                        return null;
+                    });
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Stores the result of resolving the skull value in the resolved or failed skull cache.
+     *
+     * @param value     the skull value
+     * @param resolved  the resolved skull, or null if it failed
+     * @param throwable the error, or null if it is resolved
+     */
+    private static void complete(String value, ResolvedSkull resolved, Throwable throwable) {
+        if (resolved != null) {
+            RESOLVED_SKULLS.put(value, resolved);
+            FAILED_SKULLS.invalidate(value);
+        } else {
+            FAILED_SKULLS.put(value, throwable != null ? throwable : new IllegalStateException("No skull resolved for " + value));
+        }
+    }
+
+    /**
+     * Gets the resolved skull of the value, or starts resolving it on the executor if it is not resolved yet
+     * and did not fail recently.
+     *
+     * @param value the skull value
+     * @return the resolved skull, or null if it is still being resolved or cannot be resolved
+     */
+    private ResolvedSkull getResolvedSkull(String value) {
+        ResolvedSkull skull = RESOLVED_SKULLS.getIfPresent(value);
+        if (skull != null || FAILED_SKULLS.getIfPresent(value) != null || !PENDING_VALUES.add(value)) {
+            return skull;
+        }
+        CompletableFuture<ResolvedSkull> future = skullHandler.resolveAsync(value, executor);
+        future.whenComplete((resolved, throwable) -> {
+            complete(value, resolved, throwable);
+            PENDING_VALUES.remove(value);
+        });
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
     }
 
     @Override
     public void modify(SpigotItem item, UnaryOperator<String> translator) {
-        String translated = translator.apply(skullString);
+        String translated = skullString.translate(translator);
         if (translated.isEmpty()) return;
-        item.editMeta(SkullMeta.class, skullMeta -> skullHandler.setSkull(skullMeta, translated));
+        if (executor == null) {
+            item.editMeta(SkullMeta.class, skullMeta -> skullHandler.setSkull(skullMeta, translated));
+            return;
+        }
+        ResolvedSkull skull = getResolvedSkull(translated);
+        if (skull == null) return;
+        item.editMeta(SkullMeta.class, skull::applyTo);
+    }
+
+    @Override
+    public Collection<String> getTranslatableValues() {
+        return Collections.singletonList(skullString.getValue());
     }
 }